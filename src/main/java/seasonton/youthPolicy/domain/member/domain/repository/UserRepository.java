@@ -1,6 +1,10 @@
 package seasonton.youthPolicy.domain.member.domain.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import seasonton.youthPolicy.domain.member.domain.entity.User;
 
@@ -11,4 +15,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);
+
+    // 사용자 행 잠금 (같은 사용자의 투표 요청을 순서대로 처리, 다른 사용자와는 대기 없음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
 }
@@ -0,0 +1,56 @@
+package seasonton.youthPolicy.domain.model.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import seasonton.youthPolicy.domain.model.entity.Region;
+import seasonton.youthPolicy.domain.model.repository.RegionRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지역 목록 캐시
+ * 지역은 거의 바뀌지 않는 기준 데이터라 전체를 한 번 읽어 두고,
+ * 모르는 id 가 들어오면(새 지역 추가) 그때만 다시 읽는다. (잘못된 id 반복 요청으로 매번 읽지 않도록 최소 간격 유지)
+ */
+@Component
+@RequiredArgsConstructor
+public class RegionCache {
+
+    private final RegionRepository regionRepository;
+
+    private static final long MIN_RELOAD_INTERVAL_NANOS = 10_000_000_000L;     // 10초
+
+    private volatile Map<Long, Region> regions;
+    private long reloadedAt;
+
+    public Optional<Region> find(Long regionId) {
+        if (regionId == null) return Optional.empty();
+
+        Map<Long, Region> current = regions;
+        Region region = current == null ? null : current.get(regionId);
+        if (region == null) {
+            region = reload().get(regionId);
+        }
+        return Optional.ofNullable(region);
+    }
+
+    public boolean exists(Long regionId) {
+        return find(regionId).isPresent();
+    }
+
+    private synchronized Map<Long, Region> reload() {
+        if (regions != null && System.nanoTime() - reloadedAt < MIN_RELOAD_INTERVAL_NANOS) {
+            return regions;
+        }
+
+        Map<Long, Region> loaded = new HashMap<>();
+        for (Region region : regionRepository.findAll()) {
+            loaded.put(region.getId(), region);
+        }
+        regions = Map.copyOf(loaded);
+        reloadedAt = System.nanoTime();
+        return regions;
+    }
+}
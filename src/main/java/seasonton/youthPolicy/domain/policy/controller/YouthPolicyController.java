@@ -3,11 +3,18 @@ package seasonton.youthPolicy.domain.policy.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
 import seasonton.youthPolicy.domain.policy.dto.PolicyRequestDTO;
 import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.domain.policy.service.PolicySyncService;
+import seasonton.youthPolicy.domain.policy.service.ReplyModerationService;
+import seasonton.youthPolicy.domain.policy.service.ReplySummaryService;
 import seasonton.youthPolicy.domain.policy.service.YouthPolicyService;
 import seasonton.youthPolicy.global.common.response.BaseResponse;
 import seasonton.youthPolicy.global.error.code.status.SuccessStatus;
@@ -15,12 +22,18 @@ import seasonton.youthPolicy.global.auth.UserPrincipal;
 
 import java.util.List;
 
+@Validated
 @RestController
 @RequestMapping("/youth")
 @RequiredArgsConstructor
 public class YouthPolicyController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final YouthPolicyService youthPolicyService;
+    private final PolicySyncService policySyncService;
+    private final ReplyModerationService replyModerationService;
+    private final ReplySummaryService replySummaryService;
 
     // 정책 목록 최신순 조회
     @GetMapping("/policies")
@@ -36,8 +49,8 @@ public class YouthPolicyController {
             @ApiResponse(responseCode = "POLICY_4004", description = "정책 API 호출 실패")
     })
     public BaseResponse<PolicyResponseDTO.PolicyListResponse> getPolicies(
-            @RequestParam(defaultValue = "1") int pageNum,
-            @RequestParam(defaultValue = "10") int pageSize) {
+            @RequestParam(defaultValue = "1") @Min(1) int pageNum,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int pageSize) {
 
         PolicyResponseDTO.PolicyListResponse data = youthPolicyService.getPolicies(pageNum, pageSize);
         return BaseResponse.onSuccess(SuccessStatus.POLICY_READ_SUCCESS, data);
@@ -48,8 +61,8 @@ public class YouthPolicyController {
     @Operation(
             summary = "정책 목록 좋아요순 조회",
             description = "정책 제목과 거주지역 코드, 등록일, 좋아요 개수를 반환합니다. " +
-                    "좋아요 개수 기준으로 정렬되며, 동률일 경우 정책명이 가나다순으로 정렬됩니다. " +
-                    "한 페이지에 10개씩 페이징됩니다."
+                    "전체 정책을 좋아요 개수 기준으로 정렬하며, 동률일 경우 정책명이 가나다순으로 정렬됩니다. " +
+                    "pageNum 으로 페이징하거나, 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지를 조회할 수 있습니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "POLICY_200", description = "정책 목록 조회 성공"),
@@ -57,11 +70,12 @@ public class YouthPolicyController {
             @ApiResponse(responseCode = "POLICY_4004", description = "정책 API 호출 실패")
     })
     public BaseResponse<PolicyResponseDTO.PolicyLikeListResponse> getPoliciesOrderByLikes(
-            @RequestParam(defaultValue = "1") int pageNum,
-            @RequestParam(defaultValue = "10") int pageSize) {
+            @RequestParam(defaultValue = "1") @Min(1) int pageNum,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int pageSize,
+            @RequestParam(required = false) String cursor) {
 
         PolicyResponseDTO.PolicyLikeListResponse data =
-                youthPolicyService.getPoliciesOrderByLikes(pageNum, pageSize);
+                youthPolicyService.getPoliciesOrderByLikes(pageNum, pageSize, cursor);
 
         return BaseResponse.onSuccess(SuccessStatus.POLICY_READ_SUCCESS, data);
     }
@@ -183,7 +197,8 @@ public class YouthPolicyController {
 
     // 댓글 요약
     @GetMapping("/policies/replies/summary")
-    @Operation(summary = "정책 댓글 요약", description = "정책 번호(plcyNo)로 댓글들을 요약합니다.")
+    @Operation(summary = "정책 댓글 요약", description = "정책 번호(plcyNo)의 저장된 댓글 요약을 반환합니다. " +
+            "새 댓글이 일정 수 이상 쌓이면 백그라운드에서 요약을 다시 만들며, 처음 요청 시에는 generating=true 로 응답합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "REPLY_200", description = "댓글 요약 성공"),
             @ApiResponse(responseCode = "POLICY_4001", description = "해당 정책에 댓글 없음"),
@@ -195,13 +210,13 @@ public class YouthPolicyController {
     ) {
         return BaseResponse.onSuccess(
                 SuccessStatus.POLICY_REPLY_SUMMARY_SUCCESS,
-                youthPolicyService.summarizeReplies(plcyNo, plcyNm)
+                replySummaryService.getSummary(plcyNo, plcyNm)
         );
     }
 
     // 댓글 자동 필터링
     @DeleteMapping("/policies/replies/auto-delete")
-    @Operation(summary = "이상 댓글 자동 삭제", description = "정책 번호(plcyNo)의 모든 댓글을 검사하여 이상 댓글은 삭제합니다.")
+    @Operation(summary = "이상 댓글 자동 삭제", description = "정책 번호(plcyNo)의 모든 댓글을 여러 개씩 묶어 검사하고, 이상 댓글은 한 번에 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "REPLY_200", description = "이상 댓글 자동 삭제 성공"),
             @ApiResponse(responseCode = "POLICY_4001", description = "해당 정책에 댓글 없음"),
@@ -209,7 +224,7 @@ public class YouthPolicyController {
     public BaseResponse<List<Long>> autoDeleteAbnormalReplies(@RequestParam String plcyNo) {
         return BaseResponse.onSuccess(
                 SuccessStatus.POLICY_REPLY_DELETE_SUCCESS,
-                youthPolicyService.autoDeleteAbnormalReplies(plcyNo)
+                replyModerationService.autoDeleteAbnormalReplies(plcyNo)
         );
     }
 
@@ -267,9 +282,9 @@ public class YouthPolicyController {
     // 정책 검색
     @GetMapping("/policies/search")
     @Operation(
-            summary = "정책 검색 (카테고리/정책명/지역)",
-            description = "카테고리(lclsfNm), 정책명(plcyNm), 지역(regionName) 기준으로 정책을 검색합니다. " +
-                    "세 조건은 선택적으로 조합할 수 있습니다. 검색 결과는 기본적으로 최신순으로 정렬됩니다."
+            summary = "정책 검색 (카테고리/정책명/지역/진행상태)",
+            description = "카테고리(lclsfNm), 검색어(plcyNm, 정책명·설명 포함 검색), 지역(regionName), 진행 상태(status) 기준으로 정책을 검색합니다. " +
+                    "네 조건은 선택적으로 조합할 수 있습니다. 검색 결과는 기본적으로 최신순으로 정렬되며 totalCount 는 전체 검색 결과 수입니다."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "POLICY_200", description = "정책 검색 성공"),
@@ -280,16 +295,26 @@ public class YouthPolicyController {
             @RequestParam(required = false) List<String> categories,
             @RequestParam(required = false, name = "plcyNm") String plcyNm,   // ✅ 정책명 직접 받기
             @RequestParam(required = false) List<String> regions,
-            @RequestParam(defaultValue = "1") int pageNum,
-            @RequestParam(defaultValue = "10") int pageSize) {
+            @RequestParam(required = false) PolicyStatus status,
+            @RequestParam(defaultValue = "1") @Min(1) int pageNum,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int pageSize) {
 
         System.out.println("regions param = " + regions);
 
         PolicyResponseDTO.PolicySearchListResponse data =
-                youthPolicyService.searchPolicies(categories, plcyNm, regions, pageNum, pageSize);
+                youthPolicyService.searchPolicies(categories, plcyNm, regions, status, pageNum, pageSize);
 
         return BaseResponse.onSuccess(SuccessStatus.POLICY_READ_SUCCESS, data);
     }
 
+    // 정책 카탈로그 동기화 상태 조회
+    @GetMapping("/policies/sync-status")
+    @Operation(summary = "정책 동기화 상태 조회", description = "로컬 정책 카탈로그의 동기화 지연 시간과 누적 추가/수정/삭제 건수, 목록 API 호출/공유 횟수를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "POLICY_200", description = "정책 동기화 상태 조회 성공")
+    })
+    public BaseResponse<PolicyResponseDTO.PolicySyncStatusResponse> getSyncStatus() {
+        return BaseResponse.onSuccess(SuccessStatus.POLICY_SYNC_STATUS_SUCCESS, policySyncService.getSyncStatus());
+    }
 
-}
\ No newline at end of file
+}
@@ -1,4 +1,205 @@
 package seasonton.youthPolicy.domain.policy.converter;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+import seasonton.youthPolicy.domain.policy.domain.enums.EarnConditionCode;
+import seasonton.youthPolicy.domain.policy.domain.enums.JobCode;
+import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
+import seasonton.youthPolicy.domain.policy.domain.enums.SchoolCode;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.global.common.Sido;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
 public class PolicyConverter {
+
+    // 목록 응답(최신순/좋아요순/검색)에 필요한 API 필드 (API 직접 조회 시 나머지는 파싱하지 않음)
+    public static final Set<String> LIST_FIELDS = Set.of(
+            "plcyNo", "plcyNm", "zipCd", "lclsfNm", "frstRegDt", "lastMdfcnDt", "bizPrdBgngYmd", "bizPrdEndYmd");
+
+    // 카탈로그(Policy 테이블)에 저장하는 API 필드 (동기화 시 나머지는 파싱하지 않음)
+    public static final Set<String> CATALOG_FIELDS = Set.of(
+            "plcyNo", "plcyNm", "zipCd", "lclsfNm", "frstRegDt", "lastMdfcnDt", "bizPrdBgngYmd", "bizPrdEndYmd",
+            "aplyYmd", "schoolCd", "jobCd", "earnCndSeCd", "sprtTrgtMinAge", "sprtTrgtMaxAge", "sprtTrgtAgeLmtYn",
+            "earnMinAmt", "earnMaxAmt", "sprtSclLmtYn", "aplyUrlAddr", "plcyExplnCn", "plcySprtCn",
+            "plcyAplyMthdCn", "earnEtcCn", "addAplyQlfcCndCn", "sbmsnDcmntCn", "srngMthdCn");
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 정책 API 항목 → 정책 엔티티
+    public static Policy toPolicy(JsonNode item, int regionMask) {
+        return Policy.builder()
+                .plcyNo(item.path("plcyNo").asText(null))
+                .plcyNm(item.path("plcyNm").asText(null))
+                .zipCd(item.path("zipCd").asText(null))
+                .regionMask(regionMask)
+                .lclsfNm(item.path("lclsfNm").asText(null))
+                .frstRegDt(item.path("frstRegDt").asText(null))
+                .lastMdfcnDt(item.path("lastMdfcnDt").asText(null))
+                .bizPrdBgngYmd(item.path("bizPrdBgngYmd").asText(null))
+                .bizPrdEndYmd(item.path("bizPrdEndYmd").asText(null))
+                .frstRegAt(toEpochSecond(item.path("frstRegDt").asText(null)))
+                .bizPrdBgngDay(toEpochDay(item.path("bizPrdBgngYmd").asText(null)))
+                .bizPrdEndDay(toEpochDay(item.path("bizPrdEndYmd").asText(null)))
+                .aplyYmd(item.path("aplyYmd").asText(null))
+                .schoolCd(item.path("schoolCd").asText(null))
+                .jobCd(item.path("jobCd").asText(null))
+                .earnCndSeCd(item.path("earnCndSeCd").asText(null))
+                .sprtTrgtMinAge(item.hasNonNull("sprtTrgtMinAge") ? item.get("sprtTrgtMinAge").asInt() : null)
+                .sprtTrgtMaxAge(item.hasNonNull("sprtTrgtMaxAge") ? item.get("sprtTrgtMaxAge").asInt() : null)
+                .sprtTrgtAgeLmtYn(item.path("sprtTrgtAgeLmtYn").asText(null))
+                .earnMinAmt(item.hasNonNull("earnMinAmt") ? item.get("earnMinAmt").asInt() : null)
+                .earnMaxAmt(item.hasNonNull("earnMaxAmt") ? item.get("earnMaxAmt").asInt() : null)
+                .sprtSclLmtYn(item.path("sprtSclLmtYn").asText(null))
+                .aplyUrlAddr(item.path("aplyUrlAddr").asText(null))
+                .plcyExplnCn(item.path("plcyExplnCn").asText(null))
+                .plcySprtCn(item.path("plcySprtCn").asText(null))
+                .plcyAplyMthdCn(item.path("plcyAplyMthdCn").asText(null))
+                .earnEtcCn(item.path("earnEtcCn").asText(null))
+                .addAplyQlfcCndCn(item.path("addAplyQlfcCndCn").asText(null))
+                .sbmsnDcmntCn(item.path("sbmsnDcmntCn").asText(null))
+                .srngMthdCn(item.path("srngMthdCn").asText(null))
+                .build();
+    }
+
+    // 최신 순 조회
+    public static PolicyResponseDTO.YouthPolicyResponse toYouthPolicyResponse(
+            Policy policy, Long likeCount, PolicyStatus status) {
+        return PolicyResponseDTO.YouthPolicyResponse.builder()
+                .plcyNo(policy.getPlcyNo())
+                .plcyNm(policy.getPlcyNm())
+                .regionNames(Sido.displayNamesOf(policy.getRegionMask()))
+                .frstRegDt(policy.getFrstRegDt())
+                .lclsfNm(policy.getLclsfNm())
+                .likeCount(likeCount)
+                .status(status)
+                .startDate(orAlways(policy.getBizPrdBgngYmd()))
+                .endDate(orAlways(policy.getBizPrdEndYmd()))
+                .bizPrdBgngYmd(policy.getBizPrdBgngYmd())
+                .bizPrdEndYmd(policy.getBizPrdEndYmd())
+                .build();
+    }
+
+    // 좋아요 순 조회
+    public static PolicyResponseDTO.YouthPolicyLikeResponse toYouthPolicyLikeResponse(
+            Policy policy, Long likeCount, PolicyStatus status) {
+        return PolicyResponseDTO.YouthPolicyLikeResponse.builder()
+                .plcyNo(policy.getPlcyNo())
+                .plcyNm(policy.getPlcyNm())
+                .regionNames(Sido.displayNamesOf(policy.getRegionMask()))
+                .frstRegDt(policy.getFrstRegDt())
+                .lclsfNm(policy.getLclsfNm())
+                .likeCount(likeCount)
+                .status(status)
+                .startDate(orAlways(policy.getBizPrdBgngYmd()))
+                .endDate(orAlways(policy.getBizPrdEndYmd()))
+                .bizPrdBgngYmd(policy.getBizPrdBgngYmd())
+                .bizPrdEndYmd(policy.getBizPrdEndYmd())
+                .build();
+    }
+
+    // 정책 검색
+    public static PolicyResponseDTO.YouthPolicySearchResponse toYouthPolicySearchResponse(
+            Policy policy, Long likeCount, PolicyStatus status) {
+        return PolicyResponseDTO.YouthPolicySearchResponse.builder()
+                .plcyNo(policy.getPlcyNo())
+                .plcyNm(policy.getPlcyNm())
+                .regionNames(Sido.displayNamesOf(policy.getRegionMask()))
+                .frstRegDt(policy.getFrstRegDt())
+                .lclsfNm(policy.getLclsfNm())
+                .likeCount(likeCount)
+                .status(status)
+                .startDate(orAlways(policy.getBizPrdBgngYmd()))
+                .endDate(orAlways(policy.getBizPrdEndYmd()))
+                .bizPrdBgngYmd(policy.getBizPrdBgngYmd())
+                .bizPrdEndYmd(policy.getBizPrdEndYmd())
+                .build();
+    }
+
+    // 정책 진행 상태
+    public static PolicyResponseDTO.PolicyStatusResponse toPolicyStatusResponse(Policy policy, PolicyStatus status) {
+        return PolicyResponseDTO.PolicyStatusResponse.builder()
+                .plcyNo(policy.getPlcyNo())
+                .plcyNm(policy.getPlcyNm())
+                .status(status)
+                .startDate(orAlways(policy.getBizPrdBgngYmd()))
+                .endDate(orAlways(policy.getBizPrdEndYmd()))
+                .build();
+    }
+
+    // 정책 지역 정보 ("전국" 치환 없이 시/도 그대로)
+    public static PolicyResponseDTO.PolicyRegionResponse toPolicyRegionResponse(Policy policy) {
+        return PolicyResponseDTO.PolicyRegionResponse.builder()
+                .regions(Sido.namesOf(policy.getRegionMask()))
+                .build();
+    }
+
+    // 정책 상세 보기
+    public static PolicyResponseDTO.YouthPolicyDetailResponse toYouthPolicyDetailResponse(Policy policy) {
+        return toYouthPolicyDetailResponse(policy, false);
+    }
+
+    // stale : API 장애로 마지막 동기화 카탈로그 값을 대신 내려주는 경우
+    public static PolicyResponseDTO.YouthPolicyDetailResponse toYouthPolicyDetailResponse(Policy policy, boolean stale) {
+        return PolicyResponseDTO.YouthPolicyDetailResponse.builder()
+                .plcyNo(policy.getPlcyNo())
+                .plcyNm(policy.getPlcyNm())
+                .regions(Sido.displayNamesOf(policy.getRegionMask()))
+                .aplyUrlAddr(policy.getAplyUrlAddr())
+                .plcyExplnCn(policy.getPlcyExplnCn())
+                .plcySprtCn(policy.getPlcySprtCn())
+                .sprtSclLmtYn(policy.getSprtSclLmtYn())
+                .plcyAplyMthdCn(policy.getPlcyAplyMthdCn())
+                .sprtTrgtMinAge(policy.getSprtTrgtMinAge())
+                .sprtTrgtMaxAge(policy.getSprtTrgtMaxAge())
+                .sprtTrgtAgeLmtYn(policy.getSprtTrgtAgeLmtYn())
+                .schoolCd(SchoolCode.fromCode(policy.getSchoolCd()))
+                .jobCd(JobCode.fromCode(policy.getJobCd()))
+                .earnCndSeCd(EarnConditionCode.fromCode(policy.getEarnCndSeCd()))
+                .earnMinAmt(policy.getEarnMinAmt())
+                .earnMaxAmt(policy.getEarnMaxAmt())
+                .earnEtcCn(policy.getEarnEtcCn())
+                .addAplyQlfcCndCn(policy.getAddAplyQlfcCndCn())
+                .sbmsnDcmntCn(policy.getSbmsnDcmntCn())
+                .srngMthdCn(policy.getSrngMthdCn())
+                .frstRegDt(policy.getFrstRegDt())
+                .lastMdfcnDt(policy.getLastMdfcnDt())
+                .lclsfNm(policy.getLclsfNm())
+                .startDate(policy.getBizPrdBgngYmd())
+                .endDate(policy.getBizPrdEndYmd())
+                .aplyYmd(policy.getAplyYmd())
+                .bizPrdBgngYmd(policy.getBizPrdBgngYmd())
+                .bizPrdEndYmd(policy.getBizPrdEndYmd())
+                .stale(stale)
+                .build();
+    }
+
+    // "yyyy-MM-dd HH:mm:ss" → epoch second (없거나 형식이 다르면 NO_DATETIME)
+    private static long toEpochSecond(String dateTime) {
+        if (dateTime == null || dateTime.isBlank()) return Policy.NO_DATETIME;
+        try {
+            return LocalDateTime.parse(dateTime.trim(), DATE_TIME).atZone(ZoneId.systemDefault()).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return Policy.NO_DATETIME;
+        }
+    }
+
+    // "yyyyMMdd" → epoch day (없거나 형식이 다르면 NO_DATE)
+    private static int toEpochDay(String ymd) {
+        if (ymd == null || ymd.isBlank()) return Policy.NO_DATE;
+        try {
+            return (int) LocalDate.parse(ymd.trim(), DateTimeFormatter.BASIC_ISO_DATE).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return Policy.NO_DATE;
+        }
+    }
+
+    private static String orAlways(String date) {
+        return date == null || date.isBlank() ? "상시" : date;
+    }
 }
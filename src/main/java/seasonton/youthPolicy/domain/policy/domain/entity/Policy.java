@@ -0,0 +1,151 @@
+package seasonton.youthPolicy.domain.policy.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import seasonton.youthPolicy.domain.model.entity.BaseEntity;
+import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
+
+import java.time.LocalDateTime;
+
+// 청년정책 API 를 주기적으로 동기화한 로컬 정책 카탈로그
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_policy_frst_reg_at", columnList = "frstRegAt"),
+        @Index(name = "idx_policy_plcy_nm", columnList = "plcyNm")
+})
+public class Policy extends BaseEntity {
+
+    public static final long NO_DATETIME = Long.MIN_VALUE;  // 최초등록일시 없음 (최신순 정렬 시 맨 뒤)
+    public static final int NO_DATE = PolicyStatus.NO_DATE;  // 사업 기간 없음 (상시)
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String plcyNo;              // 정책 번호
+
+    @Column(length = 500)
+    private String plcyNm;              // 정책명
+
+    @Column(columnDefinition = "TEXT")
+    private String zipCd;               // 정책 거주지역 코드 (원본)
+
+    private int regionMask;             // zipCd 에서 추출한 시/도 비트마스크 (Sido.bit())
+
+    private String lclsfNm;             // 대분류
+
+    @Column(length = 19)
+    private String frstRegDt;           // 최초등록일시 (yyyy-MM-dd HH:mm:ss)
+
+    @Column(length = 19)
+    private String lastMdfcnDt;         // 최종수정일시 (yyyy-MM-dd HH:mm:ss)
+
+    @Column(length = 8)
+    private String bizPrdBgngYmd;       // 사업 시작일 (yyyyMMdd)
+
+    @Column(length = 8)
+    private String bizPrdEndYmd;        // 사업 종료일 (yyyyMMdd)
+
+    // 수집 시 한 번만 파싱해 두는 정렬/상태 계산용 값
+    private long frstRegAt;             // 최초등록일시 epoch second (없으면 NO_DATETIME)
+    private int bizPrdBgngDay;          // 사업 시작일 epoch day (없으면 NO_DATE)
+    private int bizPrdEndDay;           // 사업 종료일 epoch day (없으면 NO_DATE)
+
+    private String aplyYmd;             // 신청 기간
+
+    // 자격 요건 코드
+    private String schoolCd;
+    private String jobCd;
+    private String earnCndSeCd;
+
+    private Integer sprtTrgtMinAge;
+    private Integer sprtTrgtMaxAge;
+    private String sprtTrgtAgeLmtYn;
+    private Integer earnMinAmt;
+    private Integer earnMaxAmt;
+    private String sprtSclLmtYn;
+
+    @Column(columnDefinition = "TEXT")
+    private String aplyUrlAddr;
+
+    @Column(columnDefinition = "TEXT")
+    private String plcyExplnCn;
+
+    @Column(columnDefinition = "TEXT")
+    private String plcySprtCn;
+
+    @Column(columnDefinition = "TEXT")
+    private String plcyAplyMthdCn;
+
+    @Column(columnDefinition = "TEXT")
+    private String earnEtcCn;
+
+    @Column(columnDefinition = "TEXT")
+    private String addAplyQlfcCndCn;
+
+    @Column(columnDefinition = "TEXT")
+    private String sbmsnDcmntCn;
+
+    @Column(columnDefinition = "TEXT")
+    private String srngMthdCn;
+
+    private LocalDateTime syncedAt;     // 마지막으로 API 값이 반영된 시각
+
+    // 동기화 시 API 값으로 덮어쓰기
+    public void updateFrom(Policy source, LocalDateTime syncedAt) {
+        this.plcyNm = source.plcyNm;
+        this.zipCd = source.zipCd;
+        this.regionMask = source.regionMask;
+        this.lclsfNm = source.lclsfNm;
+        this.frstRegDt = source.frstRegDt;
+        this.lastMdfcnDt = source.lastMdfcnDt;
+        this.bizPrdBgngYmd = source.bizPrdBgngYmd;
+        this.bizPrdEndYmd = source.bizPrdEndYmd;
+        this.frstRegAt = source.frstRegAt;
+        this.bizPrdBgngDay = source.bizPrdBgngDay;
+        this.bizPrdEndDay = source.bizPrdEndDay;
+        this.aplyYmd = source.aplyYmd;
+        this.schoolCd = source.schoolCd;
+        this.jobCd = source.jobCd;
+        this.earnCndSeCd = source.earnCndSeCd;
+        this.sprtTrgtMinAge = source.sprtTrgtMinAge;
+        this.sprtTrgtMaxAge = source.sprtTrgtMaxAge;
+        this.sprtTrgtAgeLmtYn = source.sprtTrgtAgeLmtYn;
+        this.earnMinAmt = source.earnMinAmt;
+        this.earnMaxAmt = source.earnMaxAmt;
+        this.sprtSclLmtYn = source.sprtSclLmtYn;
+        this.aplyUrlAddr = source.aplyUrlAddr;
+        this.plcyExplnCn = source.plcyExplnCn;
+        this.plcySprtCn = source.plcySprtCn;
+        this.plcyAplyMthdCn = source.plcyAplyMthdCn;
+        this.earnEtcCn = source.earnEtcCn;
+        this.addAplyQlfcCndCn = source.addAplyQlfcCndCn;
+        this.sbmsnDcmntCn = source.sbmsnDcmntCn;
+        this.srngMthdCn = source.srngMthdCn;
+        this.syncedAt = syncedAt;
+    }
+
+    // API 값과 파생 컬럼이 모두 같으면 다시 쓰지 않음
+    public boolean isSameVersion(Policy source) {
+        return source.lastMdfcnDt != null
+                && source.lastMdfcnDt.equals(this.lastMdfcnDt)
+                && source.regionMask == this.regionMask
+                && source.frstRegAt == this.frstRegAt
+                && source.bizPrdBgngDay == this.bizPrdBgngDay
+                && source.bizPrdEndDay == this.bizPrdEndDay;
+    }
+
+    // 주어진 날짜(epoch day) 기준 진행 상태
+    public PolicyStatus statusAt(int today) {
+        return PolicyStatus.of(bizPrdBgngDay, bizPrdEndDay, today);
+    }
+
+    // 신규 저장 시각 표시
+    public void markSynced(LocalDateTime syncedAt) {
+        this.syncedAt = syncedAt;
+    }
+}
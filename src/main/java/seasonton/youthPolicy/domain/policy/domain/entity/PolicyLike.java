@@ -10,6 +10,7 @@ import seasonton.youthPolicy.domain.member.domain.entity.User;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_policy_like_plcy_no", columnList = "plcyNo"))
 public class PolicyLike extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
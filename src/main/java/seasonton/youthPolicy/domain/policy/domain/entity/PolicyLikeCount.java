@@ -0,0 +1,20 @@
+package seasonton.youthPolicy.domain.policy.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 정책별 좋아요 수 (정책은 API/카탈로그 데이터라 FK 없이 plcyNo 로 관리)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicyLikeCount {
+
+    @Id
+    @Column(length = 50)
+    private String plcyNo;
+
+    @Column(nullable = false)
+    private long likeCount;
+}
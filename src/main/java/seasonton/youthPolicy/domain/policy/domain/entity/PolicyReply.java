@@ -24,6 +24,9 @@ public class PolicyReply extends BaseEntity {
     @Column(length = 50)
     private String writer;
 
+    @Column(nullable = false)
+    private long likeCount;  // 좋아요 수 (PolicyReplyLike 추가/삭제 시 원자적으로 증감)
+
     private String plcyNo;   // 정책 번호
 
     private String plcyNm;   // 정책 이름
@@ -0,0 +1,56 @@
+package seasonton.youthPolicy.domain.policy.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import seasonton.youthPolicy.domain.model.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+// 정책 카탈로그 동기화 진행 상태 (워터마크)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicySyncState extends BaseEntity {
+
+    @Id
+    @Column(length = 30)
+    private String syncName;
+
+    @Column(length = 19)
+    private String watermark;               // 반영 완료된 가장 최근 lastMdfcnDt
+
+    private LocalDateTime lastSyncedAt;     // 마지막 동기화(전체/증분) 성공 시각
+
+    private LocalDateTime lastFullSyncAt;   // 마지막 전체 동기화 성공 시각
+
+    private LocalDateTime lastReconciledAt; // 마지막 삭제 검증 시각
+
+    private Integer upstreamSkew;           // 전체 동기화 시 API totalCount - 실제 저장된 정책 수 (plcyNo 없음/중복 행)
+
+    private Boolean modifiedDescending;     // 전체 동기화 시 API 목록이 lastMdfcnDt 내림차순이었는지 (증분 조기 중단 여부)
+
+    // 증분 동기화 완료
+    public void advance(String watermark, LocalDateTime syncedAt) {
+        if (watermark != null && (this.watermark == null || watermark.compareTo(this.watermark) > 0)) {
+            this.watermark = watermark;
+        }
+        this.lastSyncedAt = syncedAt;
+    }
+
+    // 전체 동기화 완료
+    public void completeFullSync(String watermark, LocalDateTime syncedAt, Integer upstreamSkew,
+                                 boolean modifiedDescending) {
+        advance(watermark, syncedAt);
+        this.lastFullSyncAt = syncedAt;
+        this.lastReconciledAt = syncedAt;
+        this.upstreamSkew = upstreamSkew;
+        this.modifiedDescending = modifiedDescending;
+    }
+
+    // 삭제 검증 완료
+    public void reconciled(LocalDateTime reconciledAt) {
+        this.lastReconciledAt = reconciledAt;
+    }
+}
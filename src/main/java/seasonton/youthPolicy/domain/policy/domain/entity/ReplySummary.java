@@ -0,0 +1,36 @@
+package seasonton.youthPolicy.domain.policy.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import seasonton.youthPolicy.domain.model.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+// 정책별 댓글 요약 (lastReplyId 까지의 댓글로 만든 요약, 새 댓글이 쌓이면 백그라운드에서 다시 생성)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplySummary extends BaseEntity {
+
+    @Id
+    @Column(length = 50)
+    private String plcyNo;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    private Long lastReplyId;           // 요약에 반영된 가장 큰 댓글 id (high-water mark)
+
+    private long replyCount;            // 요약에 반영된 댓글 수
+
+    private LocalDateTime generatedAt;  // 요약 생성 시각
+
+    public void update(String summary, Long lastReplyId, long replyCount, LocalDateTime generatedAt) {
+        this.summary = summary;
+        this.lastReplyId = lastReplyId;
+        this.replyCount = replyCount;
+        this.generatedAt = generatedAt;
+    }
+}
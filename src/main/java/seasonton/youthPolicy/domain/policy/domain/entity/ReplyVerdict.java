@@ -0,0 +1,32 @@
+package seasonton.youthPolicy.domain.policy.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import seasonton.youthPolicy.domain.model.entity.BaseEntity;
+
+// 댓글 검사 판정 (정규화한 댓글 내용 해시 + 프롬프트 버전 기준, 같은 내용은 다시 검사하지 않음)
+@Entity
+@Table(name = "reply_verdict", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reply_verdict_hash_version", columnNames = {"content_hash", "prompt_version"})
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplyVerdict extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;     // SHA-256 (hex)
+
+    @Column(name = "prompt_version", nullable = false, length = 16)
+    private String promptVersion;   // 검사 프롬프트 내용 해시 앞부분
+
+    @Column(nullable = false)
+    private boolean allowed;
+
+    private String reason;
+}
@@ -11,6 +11,8 @@ public enum PolicyStatus {
     IN_PROGRESS("진행중"),
     COMPLETED("완료");
 
+    public static final int NO_DATE = Integer.MIN_VALUE;    // 사업 기간 없음 (상시)
+
     private final String description;
 
     // 응답 시 description으로 변환되도록
@@ -18,4 +20,15 @@ public enum PolicyStatus {
     public String getDescription() {
         return description;
     }
+
+    // 사업 기간(epoch day)으로 진행 상태 계산 (기간이 없으면 상시 → 진행중)
+    public static PolicyStatus of(int startDay, int endDay, int today) {
+        if (startDay == NO_DATE || endDay == NO_DATE) {
+            return IN_PROGRESS;
+        }
+
+        if (today < startDay) return NOT_STARTED;
+        else if (today <= endDay) return IN_PROGRESS;
+        else return COMPLETED;
+    }
 }
@@ -0,0 +1,43 @@
+package seasonton.youthPolicy.domain.policy.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicyLikeCount;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PolicyLikeCountRepository extends JpaRepository<PolicyLikeCount, String> {
+
+    List<PolicyLikeCount> findByPlcyNoIn(Collection<String> plcyNos);
+
+    // 좋아요 수 +1 (행이 없으면 1로 생성)
+    @Modifying
+    @Query(value = "INSERT INTO policy_like_count (plcy_no, like_count) VALUES (:plcyNo, 1) " +
+            "ON DUPLICATE KEY UPDATE like_count = like_count + 1", nativeQuery = true)
+    int increaseLikeCount(@Param("plcyNo") String plcyNo);
+
+    // 좋아요 수 -1
+    @Modifying
+    @Query("UPDATE PolicyLikeCount c SET c.likeCount = c.likeCount - 1 " +
+            "WHERE c.plcyNo = :plcyNo AND c.likeCount > 0")
+    int decreaseLikeCount(@Param("plcyNo") String plcyNo);
+
+    // 좋아요 수 보정 1) PolicyLike 기준으로 다시 집계
+    @Modifying
+    @Query(value = "INSERT INTO policy_like_count (plcy_no, like_count) " +
+            "SELECT pl.plcy_no, COUNT(*) FROM policy_like pl GROUP BY pl.plcy_no " +
+            "ON DUPLICATE KEY UPDATE like_count = VALUES(like_count)", nativeQuery = true)
+    int reconcileLikeCounts();
+
+    // 좋아요 수 보정 2) 좋아요가 모두 사라진 정책은 0으로
+    @Modifying
+    @Query(value = "UPDATE policy_like_count c SET c.like_count = 0 " +
+            "WHERE c.like_count <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM policy_like pl WHERE pl.plcy_no = c.plcy_no)", nativeQuery = true)
+    int resetOrphanLikeCounts();
+}
@@ -1,9 +1,13 @@
 package seasonton.youthPolicy.domain.policy.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReplyLike;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +21,9 @@ public interface PolicyReplyLikeRepository extends JpaRepository<PolicyReplyLike
 
     // 좋아요 삭제용
     void deleteByUserIdAndPolicyReplyId(Long userId, Long replyId);
+
+    // 삭제할 댓글들의 좋아요 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM PolicyReplyLike rl WHERE rl.policyReply.id IN :replyIds")
+    int deleteByPolicyReplyIdIn(@Param("replyIds") Collection<Long> replyIds);
 }
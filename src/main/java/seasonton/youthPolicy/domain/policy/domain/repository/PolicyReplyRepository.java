@@ -1,9 +1,13 @@
 package seasonton.youthPolicy.domain.policy.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReply;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +15,38 @@ public interface PolicyReplyRepository extends JpaRepository<PolicyReply, Long>
 
     List<PolicyReply> findByPlcyNo(String plcyNo);
 
+    // 댓글 요약용 (high-water mark 이후 / 이하 댓글 수, 마지막 댓글 id, id 순 내용)
+    long countByPlcyNo(String plcyNo);
+
+    long countByPlcyNoAndIdGreaterThan(String plcyNo, Long id);
+
+    long countByPlcyNoAndIdLessThanEqual(String plcyNo, Long id);
+
+    @Query("SELECT MAX(r.id) FROM PolicyReply r WHERE r.plcyNo = :plcyNo")
+    Long findMaxIdByPlcyNo(@Param("plcyNo") String plcyNo);
+
+    @Query("SELECT r.content FROM PolicyReply r WHERE r.plcyNo = :plcyNo AND r.id <= :maxId ORDER BY r.id")
+    List<String> findContentsUpTo(@Param("plcyNo") String plcyNo, @Param("maxId") Long maxId);
+
+    // 좋아요 수 증감 (행 단위 원자적 UPDATE)
+    @Modifying
+    @Query("UPDATE PolicyReply r SET r.likeCount = r.likeCount + 1 WHERE r.id = :replyId")
+    int increaseLikeCount(@Param("replyId") Long replyId);
+
+    @Modifying
+    @Query("UPDATE PolicyReply r SET r.likeCount = r.likeCount - 1 WHERE r.id = :replyId AND r.likeCount > 0")
+    int decreaseLikeCount(@Param("replyId") Long replyId);
+
+    // 좋아요 수 보정 (실제 PolicyReplyLike 개수와 다른 댓글만)
+    @Modifying
+    @Query("UPDATE PolicyReply r SET r.likeCount = " +
+            "(SELECT COUNT(rl) FROM PolicyReplyLike rl WHERE rl.policyReply = r) " +
+            "WHERE r.likeCount <> (SELECT COUNT(rl) FROM PolicyReplyLike rl WHERE rl.policyReply = r)")
+    int reconcileLikeCounts();
+
+    // 댓글 일괄 삭제 (좋아요는 먼저 지워야 함)
+    @Modifying
+    @Query("DELETE FROM PolicyReply r WHERE r.id IN :replyIds")
+    int deleteAllByIdIn(@Param("replyIds") Collection<Long> replyIds);
+
 }
@@ -0,0 +1,37 @@
+package seasonton.youthPolicy.domain.policy.domain.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PolicyRepository extends JpaRepository<Policy, Long> {
+
+    Optional<Policy> findByPlcyNo(String plcyNo);
+
+    Optional<Policy> findFirstByPlcyNm(String plcyNm);
+
+    List<Policy> findByPlcyNoIn(Collection<String> plcyNos);
+
+    // 최신 등록순 (등록일 같으면 정책명 가나다순)
+    @Query("SELECT p FROM Policy p ORDER BY p.frstRegAt DESC, p.plcyNm ASC")
+    Page<Policy> findAllOrderByFrstRegDtDesc(Pageable pageable);
+
+    // 카탈로그에 있는 전체 정책 번호
+    @Query("SELECT p.plcyNo FROM Policy p")
+    List<String> findAllPlcyNos();
+
+    // API 에서 사라진 정책 정리
+    @Modifying
+    @Query("DELETE FROM Policy p WHERE p.plcyNo IN :plcyNos")
+    int deleteByPlcyNoIn(@Param("plcyNos") Collection<String> plcyNos);
+}
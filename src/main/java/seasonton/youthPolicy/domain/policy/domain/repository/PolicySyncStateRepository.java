@@ -0,0 +1,9 @@
+package seasonton.youthPolicy.domain.policy.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicySyncState;
+
+@Repository
+public interface PolicySyncStateRepository extends JpaRepository<PolicySyncState, String> {
+}
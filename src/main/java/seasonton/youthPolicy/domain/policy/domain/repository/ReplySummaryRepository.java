@@ -0,0 +1,9 @@
+package seasonton.youthPolicy.domain.policy.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.policy.domain.entity.ReplySummary;
+
+@Repository
+public interface ReplySummaryRepository extends JpaRepository<ReplySummary, String> {
+}
@@ -0,0 +1,28 @@
+package seasonton.youthPolicy.domain.policy.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.policy.domain.entity.ReplyVerdict;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReplyVerdictRepository extends JpaRepository<ReplyVerdict, Long> {
+
+    List<ReplyVerdict> findByPromptVersionAndContentHashIn(String promptVersion, Collection<String> contentHashes);
+
+    // 판정 저장 (동시에 같은 내용을 검사했으면 나중 판정으로 덮어씀)
+    @Modifying
+    @Query(value = "INSERT INTO reply_verdict (content_hash, prompt_version, allowed, reason, created_at, updated_at) " +
+            "VALUES (:contentHash, :promptVersion, :allowed, :reason, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE allowed = VALUES(allowed), reason = VALUES(reason), updated_at = NOW(6)",
+            nativeQuery = true)
+    int upsert(@Param("contentHash") String contentHash,
+               @Param("promptVersion") String promptVersion,
+               @Param("allowed") boolean allowed,
+               @Param("reason") String reason);
+}
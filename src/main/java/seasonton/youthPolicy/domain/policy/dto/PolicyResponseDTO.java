@@ -9,6 +9,7 @@ import seasonton.youthPolicy.domain.policy.domain.enums.JobCode;
 import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
 import seasonton.youthPolicy.domain.policy.domain.enums.SchoolCode;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 
@@ -111,6 +112,7 @@ public class PolicyResponseDTO {
         private String endDate;
         private String bizPrdBgngYmd;
         private String bizPrdEndYmd;
+        private boolean stale;          // API 장애로 마지막 동기화 카탈로그를 대신 반환했는지
     }
 
     @Getter
@@ -192,6 +194,7 @@ public class PolicyResponseDTO {
     public static class PolicyListResponse {
         private int totalCount;
         private List<PolicyResponseDTO.YouthPolicyResponse> policies; // 정책 리스트
+        private boolean stale;    // API 장애로 마지막 동기화 카탈로그를 대신 반환했는지
     }
 
     @Getter
@@ -201,6 +204,8 @@ public class PolicyResponseDTO {
     public static class PolicyLikeListResponse {
         private int totalCount;
         private List<PolicyResponseDTO.YouthPolicyLikeResponse> policies; // 정책 리스트
+        private String nextCursor;   // 다음 페이지 커서 (마지막 페이지면 null)
+        private boolean stale;       // 최신이 아닌(동기화가 밀린) 카탈로그 순위를 반환했는지
     }
 
     @Getter
@@ -210,6 +215,7 @@ public class PolicyResponseDTO {
     public static class PolicySearchListResponse {
         private int totalCount;   // 검색된 정책 수
         private List<PolicyResponseDTO.YouthPolicySearchResponse> policies;
+        private boolean stale;    // API 장애로 마지막 동기화 카탈로그를 대신 반환했는지
     }
 
     // 댓글 요약
@@ -220,6 +226,10 @@ public class PolicyResponseDTO {
     public static class ReplySummaryResponse {
         private String plcyNo;
         private String summary; // 요약된 결과
+        private long summarizedReplyCount;  // 요약에 반영된 댓글 수
+        private long pendingReplyCount;     // 요약 이후 새로 달린 댓글 수
+        private boolean generating;         // 백그라운드에서 요약을 (다시) 만드는 중
+        private LocalDateTime generatedAt;  // 요약 생성 시각
     }
 
     // 댓글필터링
@@ -232,5 +242,26 @@ public class PolicyResponseDTO {
         private String reason;     // 차단 사유 (AI 응답 요약)
     }
 
+    // 정책 카탈로그 동기화 상태
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PolicySyncStatusResponse {
+        private boolean fresh;                  // 카탈로그로 조회 중인지 (max-staleness 이내)
+        private String watermark;               // 반영 완료된 최종수정일시
+        private LocalDateTime lastSyncedAt;
+        private LocalDateTime lastFullSyncAt;
+        private LocalDateTime lastReconciledAt;
+        private Long syncLagSeconds;            // 마지막 동기화 이후 경과 시간
+        private long insertedCount;             // 기동 이후 누적 추가 건수
+        private long updatedCount;
+        private long unchangedCount;
+        private long deletedCount;
+        private long upstreamCallCount;         // 기동 이후 실제 목록 API 호출 수
+        private long coalescedCallCount;        // 진행 중/직전 요청을 공유해 생략한 호출 수
+        private long rejectedCallCount;         // 서킷 차단/동시 호출 상한으로 거절한 호출 수
+        private String circuitState;            // CLOSED / OPEN / HALF_OPEN
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import seasonton.youthPolicy.domain.policy.converter.PolicyConverter;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 정책 상세 캐시 (plcyNo 기준 LRU)
+ * - 정책 엔티티와 상세 응답을 함께 보관 → 상세/상태/지역 조회가 같은 항목을 사용
+ * - 정책명 → plcyNo 보조 맵으로 이름 조회도 같은 항목으로
+ * - 항목 수 + 텍스트 길이 합(weight) 상한, 적재 후 TTL 이 지나면 만료
+ * - 같은 키의 동시 miss 는 한 번만 적재 (single-flight)
+ * 카탈로그(검색 인덱스)가 다시 만들어지면 전부 비운다.
+ */
+@Slf4j
+@Component
+public class PolicyDetailCache {
+
+    private final PolicySearchIndex policySearchIndex;
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final long ttlNanos;
+
+    // access-order LinkedHashMap → 가장 오래 안 쓴 항목부터 제거 (this 로 동기화)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, String> plcyNoByName = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+    private long totalWeight;
+    private long builtGeneration = -1;
+
+    public PolicyDetailCache(
+            PolicySearchIndex policySearchIndex,
+            @Value("${youth.detail-cache.maximum-size:2000}") int maximumSize,
+            @Value("${youth.detail-cache.maximum-weight:20000000}") long maximumWeight,
+            @Value("${youth.detail-cache.ttl:PT30M}") Duration ttl
+    ) {
+        this.policySearchIndex = policySearchIndex;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    // plcyNo 로 조회, 없으면 loader 로 한 번만 적재
+    public CachedPolicy getByPlcyNo(String plcyNo, Supplier<Policy> loader) {
+        CachedPolicy cached = getIfPresent(plcyNo);
+        if (cached != null) return cached;
+        return load("no:" + plcyNo, loader);
+    }
+
+    // 정책명으로 조회 (이전에 적재된 이름이면 plcyNo 항목을 그대로 사용)
+    public CachedPolicy getByPlcyNm(String plcyNm, Supplier<Policy> loader) {
+        String plcyNo = plcyNoByName.get(plcyNm);
+        if (plcyNo != null) {
+            CachedPolicy cached = getIfPresent(plcyNo);
+            if (cached != null) return cached;
+        }
+        return load("nm:" + plcyNm, loader);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        plcyNoByName.clear();
+        totalWeight = 0;
+    }
+
+    private synchronized CachedPolicy getIfPresent(String plcyNo) {
+        checkGeneration();
+        Entry entry = entries.get(plcyNo);
+        if (entry == null) return null;
+        if (System.nanoTime() - entry.loadedAt() > ttlNanos) {
+            remove(plcyNo);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private CachedPolicy load(String key, Supplier<Policy> loader) {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            return join(inFlight).value();
+        }
+
+        try {
+            Policy policy = loader.get();
+            Entry entry = new Entry(
+                    new CachedPolicy(policy, PolicyConverter.toYouthPolicyDetailResponse(policy)),
+                    weigh(policy), System.nanoTime());
+            put(entry);
+            mine.complete(entry);
+            return entry.value();
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private synchronized void put(Entry entry) {
+        checkGeneration();
+        Policy policy = entry.value().policy();
+        Entry previous = entries.put(policy.getPlcyNo(), entry);
+        if (previous != null) totalWeight -= previous.weight();
+        totalWeight += entry.weight();
+        if (policy.getPlcyNm() != null) plcyNoByName.put(policy.getPlcyNm(), policy.getPlcyNo());
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maximumSize || totalWeight > maximumWeight) && eldest.hasNext()) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            totalWeight -= evicted.weight();
+            forgetName(evicted);
+        }
+    }
+
+    private void remove(String plcyNo) {
+        Entry removed = entries.remove(plcyNo);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+            forgetName(removed);
+        }
+    }
+
+    private void forgetName(Entry entry) {
+        Policy policy = entry.value().policy();
+        if (policy.getPlcyNm() != null) plcyNoByName.remove(policy.getPlcyNm(), policy.getPlcyNo());
+    }
+
+    // 동기화로 카탈로그가 바뀌었으면 비움
+    private void checkGeneration() {
+        long generation = policySearchIndex.generation();
+        if (builtGeneration != generation) {
+            if (!entries.isEmpty()) log.info("[PolicyDetailCache] 카탈로그 변경 - 상세 캐시 {}건 비움", entries.size());
+            invalidateAll();
+            builtGeneration = generation;
+        }
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    // 대략적인 메모리 비중 = 텍스트 필드 길이 합
+    private static long weigh(Policy policy) {
+        return 64L + length(policy.getPlcyNm()) + length(policy.getZipCd())
+                + length(policy.getAplyUrlAddr()) + length(policy.getPlcyExplnCn())
+                + length(policy.getPlcySprtCn()) + length(policy.getPlcyAplyMthdCn())
+                + length(policy.getEarnEtcCn()) + length(policy.getAddAplyQlfcCndCn())
+                + length(policy.getSbmsnDcmntCn()) + length(policy.getSrngMthdCn());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Entry(CachedPolicy value, long weight, long loadedAt) {
+    }
+
+    // 상세 응답은 적재 시 한 번만 변환, 상태/지역은 policy 에서 계산
+    public record CachedPolicy(Policy policy, PolicyResponseDTO.YouthPolicyDetailResponse detail) {
+    }
+}
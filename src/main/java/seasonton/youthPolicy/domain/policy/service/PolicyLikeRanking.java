@@ -0,0 +1,207 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicyLikeCount;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyLikeCountRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 카탈로그 전체 정책의 좋아요 순위
+ * - 좋아요 수 내림차순, 동률이면 정책명 가나다순 (정렬된 불변 배열 스냅샷)
+ * - 좋아요 토글이 커밋되면 해당 정책 위치만 옮긴 새 스냅샷으로 교체 (copy-on-write)
+ * - 카탈로그(검색 인덱스)가 다시 만들어지면 좋아요 수 테이블과 함께 새 스냅샷 구성
+ * 조회는 volatile 참조 하나만 읽으므로 재구성/갱신 도중의 중간 상태(빈 순위, 중복 항목)를 보지 않는다.
+ * 요청마다 청년정책 API 를 호출하지 않고 offset / 커서(keyset) 페이징을 모두 지원한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyLikeRanking {
+
+    private static final Comparator<Entry> RANK_ORDER =
+            Comparator.comparingLong(Entry::likeCount).reversed()
+                    .thenComparing(Entry::plcyNm, Comparator.nullsLast(String::compareTo))
+                    .thenComparing(Entry::plcyNo);
+
+    private final PolicySearchIndex policySearchIndex;
+    private final PolicyLikeCountRepository policyLikeCountRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public boolean isReady() {
+        return policySearchIndex.isReady();
+    }
+
+    // offset 페이징
+    public RankingPage page(int pageNum, int pageSize) {
+        Snapshot current = ensureBuilt();
+        long offset = (long) Math.max(pageNum - 1, 0) * pageSize;
+        return collect(current, (int) Math.min(offset, current.ranking().length), pageSize);
+    }
+
+    // 커서 페이징 (직전 페이지 마지막 항목 다음부터)
+    public RankingPage after(String cursor, int pageSize) {
+        Snapshot current = ensureBuilt();
+        Entry from = decodeCursor(cursor);
+        int index = Arrays.binarySearch(current.ranking(), from, RANK_ORDER);
+        return collect(current, index >= 0 ? index + 1 : -index - 1, pageSize);
+    }
+
+    // 좋아요 토글 반영 (트랜잭션 안이면 커밋 후에)
+    public void onLikeChanged(String plcyNo, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(plcyNo, delta);
+                }
+            });
+        } else {
+            apply(plcyNo, delta);
+        }
+    }
+
+    // 좋아요 수 보정 이후 다음 조회 때 좋아요 수 테이블 기준으로 다시 구성 (트랜잭션 안이면 커밋 후에)
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    private synchronized void invalidate() {
+        snapshot = snapshot.withGeneration(-1);
+    }
+
+    // 바뀐 정책 하나만 옮긴 새 배열을 만들어 교체 (읽는 쪽은 이전/이후 스냅샷 중 하나만 본다)
+    private synchronized void apply(String plcyNo, long delta) {
+        Snapshot current = snapshot;
+        Entry before = current.entries().get(plcyNo);
+        if (before == null) return;     // 카탈로그에 없는 정책
+
+        Entry after = new Entry(Math.max(before.likeCount() + delta, 0), before.plcyNm(), plcyNo);
+        if (after.likeCount() == before.likeCount()) return;
+
+        Entry[] ranking = current.ranking();
+        int from = Arrays.binarySearch(ranking, before, RANK_ORDER);
+        if (from < 0) return;
+
+        Entry[] moved = new Entry[ranking.length];
+        int to = -Arrays.binarySearch(ranking, after, RANK_ORDER) - 1;     // 같은 키는 없으므로 항상 삽입 위치
+        if (to > from) {
+            to--;                       // before 를 뺀 배열 기준 위치
+            System.arraycopy(ranking, 0, moved, 0, from);
+            System.arraycopy(ranking, from + 1, moved, from, to - from);
+            moved[to] = after;
+            System.arraycopy(ranking, to + 1, moved, to + 1, ranking.length - to - 1);
+        } else {
+            System.arraycopy(ranking, 0, moved, 0, to);
+            moved[to] = after;
+            System.arraycopy(ranking, to, moved, to + 1, from - to);
+            System.arraycopy(ranking, from + 1, moved, from + 1, ranking.length - from - 1);
+        }
+
+        Map<String, Entry> entries = new HashMap<>(current.entries());
+        entries.put(plcyNo, after);
+        snapshot = new Snapshot(moved, entries, current.policies(), current.generation());
+    }
+
+    private Snapshot ensureBuilt() {
+        Snapshot current = snapshot;
+        if (current.generation() != policySearchIndex.generation()) {
+            return rebuild();
+        }
+        return current;
+    }
+
+    private synchronized Snapshot rebuild() {
+        long generation = policySearchIndex.generation();
+        if (snapshot.generation() == generation) return snapshot;
+
+        Map<String, Long> likeCounts = new HashMap<>();
+        for (PolicyLikeCount count : policyLikeCountRepository.findAll()) {
+            likeCounts.put(count.getPlcyNo(), count.getLikeCount());
+        }
+
+        Map<String, Policy> byPlcyNo = new HashMap<>();
+        List<Entry> rebuilt = new ArrayList<>();
+        for (Policy policy : policySearchIndex.policies()) {
+            byPlcyNo.put(policy.getPlcyNo(), policy);
+            rebuilt.add(new Entry(likeCounts.getOrDefault(policy.getPlcyNo(), 0L),
+                    policy.getPlcyNm(), policy.getPlcyNo()));
+        }
+
+        Entry[] ranking = rebuilt.toArray(Entry[]::new);
+        Arrays.sort(ranking, RANK_ORDER);
+        Map<String, Entry> entries = new HashMap<>();
+        for (Entry entry : ranking) entries.put(entry.plcyNo(), entry);
+
+        Snapshot built = new Snapshot(ranking, entries, byPlcyNo, generation);
+        snapshot = built;
+        log.info("[PolicyLikeRanking] 좋아요 순위 재구성 - 정책 {}건", ranking.length);
+        return built;
+    }
+
+    private RankingPage collect(Snapshot current, int from, int pageSize) {
+        Entry[] ranking = current.ranking();
+        List<RankedPolicy> page = new ArrayList<>(Math.min(pageSize, ranking.length - from));
+        Entry last = null;
+        int i = from;
+        while (i < ranking.length && page.size() < pageSize) {
+            Entry entry = ranking[i++];
+            Policy policy = current.policies().get(entry.plcyNo());
+            if (policy == null) continue;
+            page.add(new RankedPolicy(policy, entry.likeCount()));
+            last = entry;
+        }
+
+        String nextCursor = last != null && i < ranking.length ? encodeCursor(last) : null;
+        return new RankingPage(ranking.length, page, nextCursor);
+    }
+
+    // 커서 = "좋아요수|정책번호|정책명" (base64url)
+    private static String encodeCursor(Entry entry) {
+        String raw = entry.likeCount() + "|" + entry.plcyNo() + "|" + (entry.plcyNm() == null ? "" : entry.plcyNm());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Entry decodeCursor(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3) throw new IllegalArgumentException("invalid cursor");
+        return new Entry(Long.parseLong(parts[0]), parts[2].isEmpty() ? null : parts[2], parts[1]);
+    }
+
+    private record Entry(long likeCount, String plcyNm, String plcyNo) {
+    }
+
+    // 한 번 만들어지면 바뀌지 않는 순위 (교체만 한다)
+    private record Snapshot(Entry[] ranking, Map<String, Entry> entries, Map<String, Policy> policies,
+                            long generation) {
+
+        static final Snapshot EMPTY = new Snapshot(new Entry[0], Map.of(), Map.of(), -1);
+
+        Snapshot withGeneration(long generation) {
+            return new Snapshot(ranking, entries, policies, generation);
+        }
+    }
+
+    public record RankedPolicy(Policy policy, long likeCount) {
+    }
+
+    public record RankingPage(int totalCount, List<RankedPolicy> policies, String nextCursor) {
+    }
+}
@@ -0,0 +1,36 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyLikeCountRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyRepository;
+
+/**
+ * 정책/정책 댓글 좋아요 수 보정
+ * 토글 시 원자적으로 증감하지만, 어긋난 값은 실제 좋아요 행 수로 다시 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicyLikeReconcileService {
+
+    private final PolicyLikeCountRepository policyLikeCountRepository;
+    private final PolicyReplyRepository policyReplyRepository;
+    private final PolicyLikeRanking policyLikeRanking;
+
+    @Transactional
+    @Scheduled(initialDelayString = "${like.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${like.reconcile-interval:PT6H}")
+    public void reconcile() {
+        int reconciled = policyLikeCountRepository.reconcileLikeCounts();   // 값이 같은 행은 0 으로 집계
+        int orphans = policyLikeCountRepository.resetOrphanLikeCounts();
+        int replies = policyReplyRepository.reconcileLikeCounts();
+        if (reconciled + orphans > 0) policyLikeRanking.refresh();
+        if (orphans + replies > 0) {
+            log.info("[LikeReconcile] 좋아요 수 보정 - 좋아요가 사라진 정책 {}건, 정책 댓글 {}건", orphans, replies);
+        }
+    }
+}
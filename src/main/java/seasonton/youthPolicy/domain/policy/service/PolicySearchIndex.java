@@ -0,0 +1,305 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyRepository;
+import seasonton.youthPolicy.global.common.Sido;
+import seasonton.youthPolicy.global.common.Today;
+
+import java.util.*;
+
+/**
+ * 정책 카탈로그 메모리 검색 인덱스
+ * - 문서 번호 = 최신 등록순 정렬 위치 → 포스팅 리스트(int[])가 그대로 최신순
+ * - 대분류 / 시도 / 진행 상태 / 정책명+설명 bigram 별 포스팅 리스트
+ * - 조건별로 합집합(OR) 후 조건끼리 교집합(AND), 결과 길이가 곧 totalCount
+ * 동기화로 카탈로그가 바뀌면 스냅샷을 통째로 새로 만들어 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicySearchIndex {
+
+    // 최신 등록순, 등록일이 같으면 정책명 가나다순 (인덱스 문서 순서, API 직접 조회 결과 정렬에도 사용)
+    public static final Comparator<Policy> LATEST_FIRST =
+            Comparator.comparingLong(Policy::getFrstRegAt).reversed()
+                    .thenComparing(Policy::getPlcyNm, Comparator.nullsLast(String::compareTo));
+
+    private final PolicyRepository policyRepository;
+
+    private volatile Snapshot snapshot;
+    private volatile long generation;       // 재구성 횟수 (카탈로그 기반 파생 구조의 갱신 판단용)
+
+    // 기동 시 기존 카탈로그로 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    // 카탈로그 전체를 읽어 인덱스 재구성
+    public synchronized void rebuild() {
+        try {
+            List<Policy> policies = new ArrayList<>(policyRepository.findAll());
+            policies.sort(LATEST_FIRST);
+            snapshot = new Snapshot(policies.toArray(new Policy[0]), Today.epochDay());
+            generation++;
+            log.info("[PolicySearchIndex] 인덱스 재구성 - 정책 {}건, 토큰 {}개",
+                    policies.size(), snapshot.byToken.size());
+        } catch (Exception e) {
+            log.warn("[PolicySearchIndex] 인덱스 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 날짜가 바뀌면 진행 상태 포스팅만 다시 계산
+    @Scheduled(cron = "0 0 0 * * *")
+    public void refreshStatus() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = current.withStatusAt(Today.epochDay());
+        }
+    }
+
+    // 카탈로그가 비어 있으면(첫 동기화 전) 사용하지 않음
+    public boolean isReady() {
+        Snapshot current = snapshot;
+        return current != null && current.docs.length > 0;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    // 인덱스에 들어있는 전체 정책 (최신 등록순)
+    public List<Policy> policies() {
+        Snapshot current = snapshot;
+        return current == null ? List.of() : List.of(current.docs);
+    }
+
+    /**
+     * 조건 검색 (null/빈 조건은 무시)
+     * - categories, regions : 요청 값이 포함된 대분류/시도 중 하나라도 일치
+     * - keyword : 공백 제거 후 정책명 또는 설명에 포함
+     */
+    public SearchResult search(List<String> categories, List<String> regions, PolicyStatus status,
+                               String keyword, int pageNum, int pageSize) {
+        Snapshot current = snapshot;
+        List<int[]> criteria = new ArrayList<>();
+
+        if (hasValue(categories)) criteria.add(current.matchAny(current.byCategory, categories));
+        if (hasValue(regions)) criteria.add(current.matchRegions(Sido.maskMatching(regions)));
+        if (status != null) criteria.add(current.byStatus.getOrDefault(status, EMPTY));
+
+        String normalized = normalize(keyword);
+        if (!normalized.isEmpty()) {
+            criteria.add(current.matchKeyword(normalized, criteria));
+        }
+
+        int[] docs = criteria.isEmpty() ? current.all() : intersectAll(criteria);
+
+        long offset = (long) Math.max(pageNum - 1, 0) * pageSize;
+        int from = (int) Math.min(offset, docs.length);
+        int to = (int) Math.min((long) from + pageSize, docs.length);
+        List<Policy> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(current.docs[docs[i]]);
+        }
+        return new SearchResult(docs.length, page);
+    }
+
+    // 검색 결과 한 페이지와 전체 건수
+    public record SearchResult(int totalCount, List<Policy> policies) {
+    }
+
+    private static final int[] EMPTY = new int[0];
+
+    private static boolean hasValue(List<String> values) {
+        return values != null && values.stream().anyMatch(v -> v != null && !v.isBlank());
+    }
+
+    // 공백 제거 + 소문자
+    private static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    // 짧은 포스팅부터 교집합
+    private static int[] intersectAll(List<int[]> postings) {
+        List<int[]> sorted = new ArrayList<>(postings);
+        sorted.sort(Comparator.comparingInt(p -> p.length));
+
+        int[] result = sorted.get(0);
+        for (int i = 1; i < sorted.size() && result.length > 0; i++) {
+            result = intersect(result, sorted.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int[] union(List<int[]> postings) {
+        if (postings.isEmpty()) return EMPTY;
+        if (postings.size() == 1) return postings.get(0);
+
+        BitSet bits = new BitSet();
+        for (int[] posting : postings) {
+            for (int doc : posting) bits.set(doc);
+        }
+        return bits.stream().toArray();
+    }
+
+    // 한 시점의 불변 인덱스
+    private static final class Snapshot {
+
+        private final Policy[] docs;
+        private final String[] texts;                       // 정규화된 정책명 + 설명 (bigram 후보 검증용)
+        private final Map<String, int[]> byCategory;
+        private final int[][] bySido;                       // Sido.ordinal() 별 포스팅
+        private final Map<String, int[]> byToken;
+        private final Map<PolicyStatus, int[]> byStatus;
+
+        private Snapshot(Policy[] docs, int today) {
+            this.docs = docs;
+            this.texts = new String[docs.length];
+
+            Map<String, List<Integer>> categories = new HashMap<>();
+            List<List<Integer>> sidos = new ArrayList<>();
+            for (int i = 0; i < Sido.values().length; i++) sidos.add(new ArrayList<>());
+            Map<String, List<Integer>> tokens = new HashMap<>();
+
+            for (int doc = 0; doc < docs.length; doc++) {
+                Policy policy = docs[doc];
+                for (String category : split(policy.getLclsfNm())) {
+                    categories.computeIfAbsent(category, k -> new ArrayList<>()).add(doc);
+                }
+                for (Sido sido : Sido.values()) {
+                    if ((policy.getRegionMask() & sido.bit()) != 0) sidos.get(sido.ordinal()).add(doc);
+                }
+
+                texts[doc] = normalize(policy.getPlcyNm()) + '\n' + normalize(policy.getPlcyExplnCn());
+                Set<String> seen = new HashSet<>();
+                for (int i = 0; i + 2 <= texts[doc].length(); i++) {
+                    String bigram = texts[doc].substring(i, i + 2);
+                    if (bigram.indexOf('\n') < 0 && seen.add(bigram)) {
+                        tokens.computeIfAbsent(bigram, k -> new ArrayList<>()).add(doc);
+                    }
+                }
+            }
+
+            this.byCategory = toPostings(categories);
+            this.bySido = sidos.stream()
+                    .map(docIds -> docIds.stream().mapToInt(Integer::intValue).toArray())
+                    .toArray(int[][]::new);
+            this.byToken = toPostings(tokens);
+            this.byStatus = statusPostings(docs, today);
+        }
+
+        private Snapshot(Snapshot base, int today) {
+            this.docs = base.docs;
+            this.texts = base.texts;
+            this.byCategory = base.byCategory;
+            this.bySido = base.bySido;
+            this.byToken = base.byToken;
+            this.byStatus = statusPostings(docs, today);
+        }
+
+        private Snapshot withStatusAt(int today) {
+            return new Snapshot(this, today);
+        }
+
+        private int[] all() {
+            int[] all = new int[docs.length];
+            for (int i = 0; i < all.length; i++) all[i] = i;
+            return all;
+        }
+
+        // 요청 값을 포함하는 대분류들의 포스팅 합집합
+        private int[] matchAny(Map<String, int[]> index, List<String> values) {
+            List<int[]> postings = new ArrayList<>();
+            for (Map.Entry<String, int[]> entry : index.entrySet()) {
+                for (String value : values) {
+                    if (value != null && !value.isBlank() && entry.getKey().contains(value.trim())) {
+                        postings.add(entry.getValue());
+                        break;
+                    }
+                }
+            }
+            return union(postings);
+        }
+
+        // 마스크에 포함된 시/도 포스팅 합집합
+        private int[] matchRegions(int mask) {
+            List<int[]> postings = new ArrayList<>();
+            for (Sido sido : Sido.values()) {
+                if ((mask & sido.bit()) != 0) postings.add(bySido[sido.ordinal()]);
+            }
+            return union(postings);
+        }
+
+        // bigram 포스팅 교집합으로 후보를 좁힌 뒤 실제 포함 여부 확인
+        private int[] matchKeyword(String keyword, List<int[]> otherCriteria) {
+            List<int[]> postings = new ArrayList<>(otherCriteria);
+            for (int i = 0; i + 2 <= keyword.length(); i++) {
+                int[] posting = byToken.get(keyword.substring(i, i + 2));
+                if (posting == null) return EMPTY;
+                postings.add(posting);
+            }
+
+            int[] candidates = postings.isEmpty() ? all() : intersectAll(postings);
+            if (keyword.length() == 2) return candidates;
+
+            int[] out = new int[candidates.length];
+            int n = 0;
+            for (int doc : candidates) {
+                if (texts[doc].contains(keyword)) out[n++] = doc;
+            }
+            return Arrays.copyOf(out, n);
+        }
+
+        private static Map<PolicyStatus, int[]> statusPostings(Policy[] docs, int today) {
+            Map<PolicyStatus, List<Integer>> statuses = new EnumMap<>(PolicyStatus.class);
+            for (int doc = 0; doc < docs.length; doc++) {
+                statuses.computeIfAbsent(docs[doc].statusAt(today), k -> new ArrayList<>()).add(doc);
+            }
+            return toPostings(statuses);
+        }
+
+        private static <K> Map<K, int[]> toPostings(Map<K, List<Integer>> lists) {
+            Map<K, int[]> postings = new HashMap<>();
+            lists.forEach((key, docs) -> postings.put(key, docs.stream().mapToInt(Integer::intValue).toArray()));
+            return postings;
+        }
+
+        private static List<String> split(String joined) {
+            if (joined == null || joined.isBlank()) return List.of();
+            List<String> values = new ArrayList<>();
+            for (String value : joined.split(",")) {
+                if (!value.isBlank()) values.add(value.trim());
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import seasonton.youthPolicy.domain.policy.converter.PolicyConverter;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicySyncState;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicySyncStateRepository;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.global.common.RegionCodeMapper;
+import seasonton.youthPolicy.global.infra.YouthPolicyClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 청년정책 API 목록을 로컬 카탈로그(Policy 테이블)로 동기화
+ * - 증분 동기화: lastMdfcnDt 가 워터마크 이후인 정책만 upsert
+ *   API 는 정렬 파라미터가 없어 목록 순서를 보장하지 않음 → 전체 동기화 때 목록 전체가 lastMdfcnDt 내림차순이었고
+ *   이번 조회에서도 순서가 유지되는 동안만, 페이지 마지막 항목이 워터마크 이하이면 중단 (아니면 끝 페이지까지 조회)
+ * - 삭제 검증: API totalCount 와 로컬 건수를 비교해 다르면 전체 동기화
+ *   (plcyNo 없는 행/중복 행 수는 전체 동기화 때 upstreamSkew 로 저장해 두고 빼서 비교)
+ * - 전체 동기화: 모든 페이지를 받아 upsert 후 사라진 정책 삭제
+ * 조회 API 는 카탈로그가 max-staleness 이내로 갱신되어 있으면 API 대신 카탈로그를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicySyncService {
+
+    private static final String SYNC_NAME = "policy";
+
+    private final YouthPolicyClient youthPolicyClient;
+    private final PolicyRepository policyRepository;
+    private final PolicySyncStateRepository policySyncStateRepository;
+    private final RegionCodeMapper regionCodeMapper;
+    private final PolicySearchIndex policySearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${youth.catalog.sync-page-size:100}")
+    private int syncPageSize;
+
+    @Value("${youth.catalog.max-staleness:PT6H}")
+    private Duration maxStaleness;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    // 기동 이후 누적 변경 건수
+    private final AtomicLong insertedCount = new AtomicLong();
+    private final AtomicLong updatedCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+    private final AtomicLong deletedCount = new AtomicLong();
+
+    // 재기동 시 저장된 동기화 시각부터 이어서 사용
+    @PostConstruct
+    public void loadState() {
+        policySyncStateRepository.findById(SYNC_NAME)
+                .ifPresent(state -> lastSyncedAt = state.getLastSyncedAt());
+    }
+
+    // 증분 동기화 (워터마크가 없으면 전체 동기화)
+    @Scheduled(initialDelayString = "${youth.catalog.initial-delay:PT10S}",
+            fixedDelayString = "${youth.catalog.delta-interval:PT10M}")
+    public void syncDelta() {
+        PolicySyncState state = loadOrCreateState();
+        String watermark = state.getWatermark();
+        if (watermark == null) {
+            syncAll();
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        String maxSeen = watermark;
+        ModifiedOrder order = new ModifiedOrder(Boolean.TRUE.equals(state.getModifiedDescending()));
+        int pageNum = 1;
+        int fetched = 0;
+        PageResult total = new PageResult();
+
+        try {
+            while (true) {
+                JsonNode result = youthPolicyClient.fetchPage(pageNum, syncPageSize, null, null,
+                        PolicyConverter.CATALOG_FIELDS);
+                JsonNode items = result.path("youthPolicyList");
+                if (!items.isArray() || items.isEmpty()) break;
+
+                // 워터마크 이후 수정된 정책만 반영 (신규 정책도 여기에 포함)
+                List<Policy> changed = new ArrayList<>();
+                for (JsonNode item : items) {
+                    String lastMdfcnDt = item.path("lastMdfcnDt").asText(null);
+                    order.observe(lastMdfcnDt);
+                    if (!item.hasNonNull("plcyNo")) continue;
+                    if (lastMdfcnDt == null || lastMdfcnDt.compareTo(watermark) > 0) {
+                        changed.add(toPolicy(item));
+                        if (lastMdfcnDt != null && lastMdfcnDt.compareTo(maxSeen) > 0) {
+                            maxSeen = lastMdfcnDt;
+                        }
+                    }
+                }
+                total.add(upsertPage(changed, startedAt));
+
+                fetched += items.size();
+                int totalCount = result.path("paging").path("totalCount").asInt(-1);
+                if (totalCount != -1 && fetched >= totalCount) break;
+                // 내림차순인 목록에서 워터마크 이하까지 내려왔으면 이후 페이지는 모두 반영된 수정분
+                if (order.reachedBefore(watermark)) break;
+                pageNum++;
+            }
+
+            String newWatermark = maxSeen;
+            saveState(state, s -> s.advance(newWatermark, startedAt));
+            lastSyncedAt = startedAt;
+            if (total.inserted + total.updated > 0) {
+                policySearchIndex.rebuild();
+            }
+            log.info("[PolicySync] 증분 동기화 완료 - {}페이지 조회{}, 추가 {} / 수정 {} / 변경없음 {}, 워터마크 {}",
+                    pageNum, order.isDescending() ? "" : " (수정일 정렬 아님 - 전체 조회)",
+                    total.inserted, total.updated, total.unchanged, newWatermark);
+        } catch (Exception e) {
+            log.warn("[PolicySync] 증분 동기화 실패 (page {}): {}", pageNum, e.getMessage());
+        }
+    }
+
+    // 삭제 검증: API 전체 건수(pageSize=1 요청 1회)에서 저장 안 되는 행 수를 뺀 값이 로컬 건수와 다르면 전체 동기화
+    @Scheduled(initialDelayString = "${youth.catalog.reconcile-interval:PT3H}",
+            fixedDelayString = "${youth.catalog.reconcile-interval:PT3H}")
+    public void reconcile() {
+        try {
+            int upstreamCount = youthPolicyClient.fetchPage(1, 1, null, null, Set.of("plcyNo"))
+                    .path("paging").path("totalCount").asInt(-1);
+            if (upstreamCount == -1) return;
+
+            PolicySyncState state = loadOrCreateState();
+            int skew = state.getUpstreamSkew() == null ? 0 : state.getUpstreamSkew();
+            long localCount = policyRepository.count();
+            if (upstreamCount - skew != localCount) {
+                log.info("[PolicySync] 건수 불일치 (API {} - 제외 {}, 로컬 {}) - 전체 동기화 실행",
+                        upstreamCount, skew, localCount);
+                syncAll();
+                return;
+            }
+
+            saveState(state, s -> s.reconciled(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("[PolicySync] 삭제 검증 실패: {}", e.getMessage());
+        }
+    }
+
+    // 전체 동기화
+    @Scheduled(initialDelayString = "${youth.catalog.full-sync-interval:P1D}",
+            fixedDelayString = "${youth.catalog.full-sync-interval:P1D}")
+    public void syncAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Set<String> seen = new HashSet<>();
+        String maxSeen = null;
+        int pageNum = 1;
+        int fetched = 0;
+        int upstreamCount = -1;
+        ModifiedOrder order = new ModifiedOrder(true);
+        PageResult total = new PageResult();
+
+        try {
+            while (true) {
+                JsonNode result = youthPolicyClient.fetchPage(pageNum, syncPageSize, null, null,
+                        PolicyConverter.CATALOG_FIELDS);
+                JsonNode items = result.path("youthPolicyList");
+                if (!items.isArray() || items.isEmpty()) break;
+
+                List<Policy> page = new ArrayList<>();
+                for (JsonNode item : items) {
+                    order.observe(item.path("lastMdfcnDt").asText(null));
+                    if (!item.hasNonNull("plcyNo")) continue;
+                    Policy policy = toPolicy(item);
+                    page.add(policy);
+                    seen.add(policy.getPlcyNo());
+
+                    String lastMdfcnDt = policy.getLastMdfcnDt();
+                    if (lastMdfcnDt != null && (maxSeen == null || lastMdfcnDt.compareTo(maxSeen) > 0)) {
+                        maxSeen = lastMdfcnDt;
+                    }
+                }
+                total.add(upsertPage(page, startedAt));
+                fetched += items.size();
+
+                int totalCount = result.path("paging").path("totalCount").asInt(-1);
+                if (totalCount != -1) upstreamCount = totalCount;
+                if (totalCount != -1 && fetched >= totalCount) break;
+                pageNum++;
+            }
+
+            // 끝까지 성공한 경우에만 사라진 정책 삭제
+            Set<String> removed = new HashSet<>(policyRepository.findAllPlcyNos());
+            removed.removeAll(seen);
+            int deleted = removed.isEmpty() ? 0
+                    : Objects.requireNonNull(transactionTemplate.execute(status ->
+                            policyRepository.deleteByPlcyNoIn(removed)));
+            deletedCount.addAndGet(deleted);
+
+            // 저장되지 않는 행(plcyNo 없음, 중복) 수 → 삭제 검증 때 API 건수에서 뺌
+            Integer skew = upstreamCount == -1 ? null : upstreamCount - seen.size();
+            String newWatermark = maxSeen;
+            saveState(loadOrCreateState(), s -> s.completeFullSync(newWatermark, startedAt, skew, order.isDescending()));
+            lastSyncedAt = startedAt;
+            if (total.inserted + total.updated + deleted > 0) {
+                policySearchIndex.rebuild();
+            }
+            log.info("[PolicySync] 전체 동기화 완료 - 조회 {}건, 추가 {} / 수정 {} / 변경없음 {} / 삭제 {}, 수정일 내림차순 {}",
+                    fetched, total.inserted, total.updated, total.unchanged, deleted, order.isDescending());
+        } catch (Exception e) {
+            log.warn("[PolicySync] 전체 동기화 실패 (page {}): {}", pageNum, e.getMessage());
+        }
+    }
+
+    // 카탈로그가 허용된 staleness 이내인지
+    public boolean isFresh() {
+        LocalDateTime synced = lastSyncedAt;
+        return synced != null && !synced.plus(maxStaleness).isBefore(LocalDateTime.now());
+    }
+
+    // 동기화 지연 및 변경 건수
+    public PolicyResponseDTO.PolicySyncStatusResponse getSyncStatus() {
+        PolicySyncState state = policySyncStateRepository.findById(SYNC_NAME).orElse(null);
+        LocalDateTime synced = lastSyncedAt;
+
+        return PolicyResponseDTO.PolicySyncStatusResponse.builder()
+                .fresh(isFresh())
+                .watermark(state == null ? null : state.getWatermark())
+                .lastSyncedAt(synced)
+                .lastFullSyncAt(state == null ? null : state.getLastFullSyncAt())
+                .lastReconciledAt(state == null ? null : state.getLastReconciledAt())
+                .syncLagSeconds(synced == null ? null : Duration.between(synced, LocalDateTime.now()).toSeconds())
+                .insertedCount(insertedCount.get())
+                .updatedCount(updatedCount.get())
+                .unchangedCount(unchangedCount.get())
+                .deletedCount(deletedCount.get())
+                .upstreamCallCount(youthPolicyClient.issuedCount())
+                .coalescedCallCount(youthPolicyClient.coalescedCount())
+                .rejectedCallCount(youthPolicyClient.rejectedCount())
+                .circuitState(youthPolicyClient.circuitState())
+                .build();
+    }
+
+    // API 항목 → 정책 엔티티 (지역은 시/도 단위로 정규화)
+    public Policy toPolicy(JsonNode item) {
+        return PolicyConverter.toPolicy(item, regionCodeMapper.toRegionMask(item.path("zipCd").asText(null)));
+    }
+
+    // 한 페이지 단위로 insert / update (lastMdfcnDt 와 파생 컬럼이 같으면 건너뜀)
+    private PageResult upsertPage(List<Policy> page, LocalDateTime syncedAt) {
+        PageResult result = new PageResult();
+        if (page.isEmpty()) return result;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Policy> existing = policyRepository.findByPlcyNoIn(
+                            page.stream().map(Policy::getPlcyNo).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Policy::getPlcyNo, Function.identity()));
+
+            List<Policy> inserts = new ArrayList<>();
+            for (Policy incoming : page) {
+                Policy current = existing.get(incoming.getPlcyNo());
+                if (current == null) {
+                    incoming.markSynced(syncedAt);
+                    inserts.add(incoming);
+                    existing.put(incoming.getPlcyNo(), incoming);
+                    result.inserted++;
+                } else if (!current.isSameVersion(incoming)) {
+                    current.updateFrom(incoming, syncedAt);
+                    result.updated++;
+                } else {
+                    result.unchanged++;
+                }
+            }
+            policyRepository.saveAll(inserts);
+        });
+
+        insertedCount.addAndGet(result.inserted);
+        updatedCount.addAndGet(result.updated);
+        unchangedCount.addAndGet(result.unchanged);
+        return result;
+    }
+
+    private PolicySyncState loadOrCreateState() {
+        return policySyncStateRepository.findById(SYNC_NAME)
+                .orElseGet(() -> PolicySyncState.builder().syncName(SYNC_NAME).build());
+    }
+
+    private void saveState(PolicySyncState state, Consumer<PolicySyncState> change) {
+        change.accept(state);
+        policySyncStateRepository.save(state);
+    }
+
+    // 목록이 lastMdfcnDt 내림차순인지 (수정일 없는 항목은 무시)
+    private static class ModifiedOrder {
+        private boolean descending;
+        private String last;
+
+        private ModifiedOrder(boolean descending) {
+            this.descending = descending;
+        }
+
+        private void observe(String lastMdfcnDt) {
+            if (lastMdfcnDt == null) return;
+            if (last != null && lastMdfcnDt.compareTo(last) > 0) descending = false;
+            last = lastMdfcnDt;
+        }
+
+        private boolean isDescending() {
+            return descending;
+        }
+
+        private boolean reachedBefore(String watermark) {
+            return descending && last != null && last.compareTo(watermark) <= 0;
+        }
+    }
+
+    // 페이지별 변경 건수
+    private static class PageResult {
+        private int inserted;
+        private int updated;
+        private int unchanged;
+
+        private void add(PageResult other) {
+            inserted += other.inserted;
+            updated += other.updated;
+            unchanged += other.unchanged;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReply;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyLikeRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.ReplySummaryRepository;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.domain.report.dto.perplexityDTO;
+import seasonton.youthPolicy.global.infra.PerplexityClient;
+
+import java.util.*;
+
+/**
+ * 정책 댓글 일괄 검사 (LLM)
+ * - 댓글 여러 개를 "[id] 내용" 줄로 묶어 한 번에 요청, 응답은 id 별 판정 JSON 배열
+ * - 묶음은 max-concurrent-batches 개까지 동시에 요청
+ * - 같은 내용(정규화 후)은 한 번만, 이미 판정된 내용은 판정 저장소 결과를 그대로 사용
+ * - LLM 호출은 트랜잭션 밖에서, 차단된 댓글만 마지막에 한 트랜잭션으로 일괄 삭제
+ *   (삭제한 댓글이 요약에 남지 않도록 저장된 댓글 요약도 함께 삭제 → 다음 조회 때 다시 생성)
+ * 판정을 받지 못한 댓글(응답 누락, 파싱 실패, 호출 실패)은 삭제하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplyModerationService {
+
+    private static final int BATCH_FILTER_TYPE = 4;
+    private static final int TOKENS_PER_VERDICT = 48;
+
+    private final PolicyReplyRepository policyReplyRepository;
+    private final PolicyReplyLikeRepository policyReplyLikeRepository;
+    private final PerplexityClient perplexityClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ReplyVerdictStore replyVerdictStore;
+    private final ReplySummaryRepository replySummaryRepository;
+
+    @Value("${moderation.batch-size:30}")
+    private int batchSize;
+
+    @Value("${moderation.max-concurrent-batches:4}")
+    private int maxConcurrentBatches;
+
+    @Value("${moderation.max-content-length:500}")
+    private int maxContentLength;
+
+    // 정책의 모든 댓글 검사 후 차단된 댓글 삭제 (삭제한 id 반환)
+    public List<Long> autoDeleteAbnormalReplies(String plcyNo) {
+        List<PolicyReply> replies = policyReplyRepository.findByPlcyNo(plcyNo);
+
+        List<Long> blockedIds = moderate(replies).entrySet().stream()
+                .filter(verdict -> !verdict.getValue().isAllowed())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (blockedIds.isEmpty()) return blockedIds;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            policyReplyLikeRepository.deleteByPolicyReplyIdIn(blockedIds);
+            policyReplyRepository.deleteAllByIdIn(blockedIds);
+            replySummaryRepository.deleteById(plcyNo);
+        });
+        log.info("[ReplyModeration] plcyNo={} 댓글 {}건 중 {}건 삭제", plcyNo, replies.size(), blockedIds.size());
+        return blockedIds;
+    }
+
+    // 댓글 id → 판정 (판정을 받지 못한 댓글은 결과에 없음)
+    public Map<Long, PolicyResponseDTO.ReplyFilterResponse> moderate(List<PolicyReply> replies) {
+        if (replies.isEmpty()) return Map.of();
+
+        // 내용 해시별 댓글 id (같은 내용은 대표 댓글 하나만 검사)
+        Map<String, List<Long>> idsByHash = new LinkedHashMap<>();
+        Map<String, PolicyReply> representatives = new LinkedHashMap<>();
+        for (PolicyReply reply : replies) {
+            String hash = ReplyVerdictStore.contentHash(reply.getContent());
+            idsByHash.computeIfAbsent(hash, k -> new ArrayList<>()).add(reply.getId());
+            representatives.putIfAbsent(hash, reply);
+        }
+
+        Map<String, PolicyResponseDTO.ReplyFilterResponse> byHash =
+                new HashMap<>(replyVerdictStore.findAll(idsByHash.keySet()));
+        int known = byHash.size();
+
+        // 처음 보는 내용만 LLM 으로
+        List<PolicyReply> unjudged = new ArrayList<>();
+        representatives.forEach((hash, reply) -> {
+            if (!byHash.containsKey(hash)) unjudged.add(reply);
+        });
+        Map<Long, PolicyResponseDTO.ReplyFilterResponse> judged = judge(unjudged);
+
+        Map<String, PolicyResponseDTO.ReplyFilterResponse> fresh = new HashMap<>();
+        representatives.forEach((hash, reply) -> {
+            PolicyResponseDTO.ReplyFilterResponse verdict = judged.get(reply.getId());
+            if (verdict != null) fresh.put(hash, verdict);
+        });
+        replyVerdictStore.saveAll(fresh);
+        byHash.putAll(fresh);
+
+        Map<Long, PolicyResponseDTO.ReplyFilterResponse> verdicts = new HashMap<>();
+        idsByHash.forEach((hash, ids) -> {
+            PolicyResponseDTO.ReplyFilterResponse verdict = byHash.get(hash);
+            if (verdict != null) ids.forEach(id -> verdicts.put(id, verdict));
+        });
+
+        log.info("[ReplyModeration] 댓글 {}건 - 서로 다른 내용 {}건, 기존 판정 {}건, 새로 검사 {}건",
+                replies.size(), idsByHash.size(), known, unjudged.size());
+        if (verdicts.size() < replies.size()) {
+            log.warn("[ReplyModeration] 판정 누락 {}건 (삭제하지 않음)", replies.size() - verdicts.size());
+        }
+        return verdicts;
+    }
+
+    // 묶음으로 나눠 동시에 검사 (댓글 id → 판정)
+    private Map<Long, PolicyResponseDTO.ReplyFilterResponse> judge(List<PolicyReply> replies) {
+        if (replies.isEmpty()) return Map.of();
+
+        List<List<PolicyReply>> batches = new ArrayList<>();
+        for (int from = 0; from < replies.size(); from += batchSize) {
+            batches.add(replies.subList(from, Math.min(from + batchSize, replies.size())));
+        }
+
+        Map<Long, PolicyResponseDTO.ReplyFilterResponse> verdicts = new HashMap<>();
+        Flux.fromIterable(batches)
+                .flatMap(this::moderateBatch, maxConcurrentBatches)
+                .toIterable()
+                .forEach(verdicts::putAll);
+        return verdicts;
+    }
+
+    private Mono<Map<Long, PolicyResponseDTO.ReplyFilterResponse>> moderateBatch(List<PolicyReply> batch) {
+        StringBuilder prompt = new StringBuilder();
+        Set<Long> ids = new HashSet<>();
+        for (PolicyReply reply : batch) {
+            ids.add(reply.getId());
+            prompt.append('[').append(reply.getId()).append("] ").append(flatten(reply.getContent())).append('\n');
+        }
+
+        return perplexityClient.summarizeAsync(prompt.toString(), BATCH_FILTER_TYPE, 64 + batch.size() * TOKENS_PER_VERDICT)
+                .map(resp -> parseVerdicts(resp, ids))
+                .onErrorResume(e -> {
+                    log.warn("[ReplyModeration] 댓글 {}건 묶음 검사 실패: {}", batch.size(), e.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    // [{"id": 1, "verdict": "OK" | "BLOCK", "reason": "..."}] (앞뒤 설명/코드블록은 무시)
+    private Map<Long, PolicyResponseDTO.ReplyFilterResponse> parseVerdicts(
+            perplexityDTO.PerplexityChatResponse resp, Set<Long> ids) {
+        String answer = resp.getChoices()[0].getMessage().getContent();
+        int start = answer.indexOf('[');
+        int end = answer.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            log.warn("[ReplyModeration] 판정 형식 오류: {}", answer);
+            return Map.of();
+        }
+
+        try {
+            Map<Long, PolicyResponseDTO.ReplyFilterResponse> verdicts = new HashMap<>();
+            for (JsonNode node : objectMapper.readTree(answer.substring(start, end + 1))) {
+                long id = node.path("id").asLong(-1);
+                if (!ids.contains(id)) continue;
+
+                boolean allowed = !"BLOCK".equalsIgnoreCase(node.path("verdict").asText().trim());
+                String reason = node.path("reason").asText("").trim();
+                verdicts.put(id, PolicyResponseDTO.ReplyFilterResponse.builder()
+                        .allowed(allowed)
+                        .reason(allowed ? "정상 댓글" : reason)
+                        .build());
+            }
+            return verdicts;
+        } catch (Exception e) {
+            log.warn("[ReplyModeration] 판정 파싱 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    // 한 줄로 만들고 길이 제한 (줄 단위 id 구분 유지)
+    private String flatten(String content) {
+        if (content == null) return "";
+        String line = content.replaceAll("\\s+", " ").trim();
+        return line.length() > maxContentLength ? line.substring(0, maxContentLength) : line;
+    }
+}
@@ -0,0 +1,214 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import seasonton.youthPolicy.domain.policy.domain.entity.ReplySummary;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.ReplySummaryRepository;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.global.infra.PerplexityClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 정책 댓글 요약
+ * - 조회는 저장된 요약(reply_summary)을 바로 반환, LLM 을 호출하지 않음
+ * - 요약 이후 새 댓글이 regenerate-after-replies 개 이상이거나, 새 댓글이 있고 요약이 max-age 보다 오래되면
+ *   백그라운드 작업으로 다시 생성 (정책당 동시에 하나만)
+ * - 요약에 반영된 댓글이 삭제됐으면(작성자 삭제 등) 바로 다시 생성, 댓글이 모두 지워졌으면 요약도 삭제
+ * - 댓글이 많으면 chunk-chars 단위로 나눠 부분 요약 → 부분 요약들을 다시 요약 (프롬프트 길이 제한)
+ */
+@Slf4j
+@Service
+public class ReplySummaryService {
+
+    private static final int SUMMARY_TYPE = 2;
+    private static final int SUMMARY_MAX_TOKENS = 1024;
+    private static final String NO_REPLY = "댓글이 아직 존재하지 않습니다.";
+    private static final String GENERATING = "댓글 요약을 생성하고 있습니다. 잠시 후 다시 확인해 주세요.";
+
+    private final PolicyReplyRepository policyReplyRepository;
+    private final ReplySummaryRepository replySummaryRepository;
+    private final PerplexityClient perplexityClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int regenerateAfterReplies;
+    private final Duration maxAge;
+    private final int chunkChars;
+    private final int maxConcurrentChunks;
+
+    private final ThreadPoolExecutor worker;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ReplySummaryService(
+            PolicyReplyRepository policyReplyRepository,
+            ReplySummaryRepository replySummaryRepository,
+            PerplexityClient perplexityClient,
+            TransactionTemplate transactionTemplate,
+            @Value("${summary.regenerate-after-replies:5}") int regenerateAfterReplies,
+            @Value("${summary.max-age:PT6H}") Duration maxAge,
+            @Value("${summary.chunk-chars:6000}") int chunkChars,
+            @Value("${summary.max-concurrent-chunks:4}") int maxConcurrentChunks,
+            @Value("${summary.worker-threads:2}") int workerThreads,
+            @Value("${summary.queue-capacity:100}") int queueCapacity
+    ) {
+        this.policyReplyRepository = policyReplyRepository;
+        this.replySummaryRepository = replySummaryRepository;
+        this.perplexityClient = perplexityClient;
+        this.transactionTemplate = transactionTemplate;
+        this.regenerateAfterReplies = regenerateAfterReplies;
+        this.maxAge = maxAge;
+        this.chunkChars = chunkChars;
+        this.maxConcurrentChunks = maxConcurrentChunks;
+        this.worker = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // 저장된 요약 조회 (필요하면 백그라운드 재생성 요청)
+    public PolicyResponseDTO.ReplySummaryResponse getSummary(String plcyNo, String plcyNm) {
+        ReplySummary stored = replySummaryRepository.findById(plcyNo).orElse(null);
+
+        if (stored == null) {
+            if (policyReplyRepository.countByPlcyNo(plcyNo) == 0) {
+                return PolicyResponseDTO.ReplySummaryResponse.builder()
+                        .plcyNo(plcyNo)
+                        .summary(NO_REPLY)
+                        .build();
+            }
+            requestRegeneration(plcyNo, plcyNm);
+            return PolicyResponseDTO.ReplySummaryResponse.builder()
+                    .plcyNo(plcyNo)
+                    .summary(GENERATING)
+                    .generating(true)
+                    .build();
+        }
+
+        long pending = stored.getLastReplyId() == null
+                ? policyReplyRepository.countByPlcyNo(plcyNo)
+                : policyReplyRepository.countByPlcyNoAndIdGreaterThan(plcyNo, stored.getLastReplyId());
+        // 요약 이후 삭제된 댓글 (high-water mark 이하 댓글 수가 요약 당시보다 적음)
+        long removed = stored.getLastReplyId() == null ? 0
+                : stored.getReplyCount() - policyReplyRepository.countByPlcyNoAndIdLessThanEqual(plcyNo, stored.getLastReplyId());
+        boolean outdated = removed > 0
+                || pending >= regenerateAfterReplies
+                || (pending > 0 && stored.getGeneratedAt().plus(maxAge).isBefore(LocalDateTime.now()));
+        if (outdated) requestRegeneration(plcyNo, plcyNm);
+
+        return PolicyResponseDTO.ReplySummaryResponse.builder()
+                .plcyNo(plcyNo)
+                .summary(stored.getSummary())
+                .summarizedReplyCount(stored.getReplyCount())
+                .pendingReplyCount(pending)
+                .generating(inFlight.contains(plcyNo))
+                .generatedAt(stored.getGeneratedAt())
+                .build();
+    }
+
+    private void requestRegeneration(String plcyNo, String plcyNm) {
+        if (!inFlight.add(plcyNo)) return;
+        try {
+            worker.execute(() -> {
+                try {
+                    regenerate(plcyNo, plcyNm);
+                } catch (Exception e) {
+                    log.warn("[ReplySummary] plcyNo={} 요약 생성 실패: {}", plcyNo, e.getMessage());
+                } finally {
+                    inFlight.remove(plcyNo);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참 → 다음 조회 때 다시 요청
+            inFlight.remove(plcyNo);
+            log.debug("[ReplySummary] 작업 큐 가득 참 - plcyNo={} 요약 요청 건너뜀", plcyNo);
+        }
+    }
+
+    // 현재 마지막 댓글까지 다시 요약해서 저장 (트랜잭션 밖에서 LLM 호출)
+    private void regenerate(String plcyNo, String plcyNm) {
+        Long maxId = policyReplyRepository.findMaxIdByPlcyNo(plcyNo);
+        if (maxId == null) {
+            // 댓글이 모두 삭제됨 → 남은 요약 제거
+            transactionTemplate.executeWithoutResult(status -> replySummaryRepository.deleteById(plcyNo));
+            return;
+        }
+
+        List<String> contents = policyReplyRepository.findContentsUpTo(plcyNo, maxId);
+        long startedAt = System.nanoTime();
+        String summary = summarizeHierarchically(plcyNm, contents);
+        LocalDateTime generatedAt = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ReplySummary row = replySummaryRepository.findById(plcyNo)
+                    .orElseGet(() -> ReplySummary.builder().plcyNo(plcyNo).build());
+            row.update(summary, maxId, contents.size(), generatedAt);
+            replySummaryRepository.save(row);
+        });
+        log.info("[ReplySummary] plcyNo={} 댓글 {}건 요약 ({}ms)",
+                plcyNo, contents.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    // 묶음별 부분 요약 → 한 묶음에 들어올 때까지 반복 → 최종 요약
+    private String summarizeHierarchically(String plcyNm, List<String> contents) {
+        List<String> texts = contents;
+        boolean partial = false;
+        while (true) {
+            // 부분 요약이 길어 묶음 수가 줄지 않으면 두 개씩이라도 합침
+            List<String> chunks = partial && chunk(texts, chunkChars).size() >= texts.size()
+                    ? chunk(texts, chunkChars * 2)
+                    : chunk(texts, chunkChars);
+            if (chunks.size() == 1) {
+                String header = partial
+                        ? "다음은 정책 '" + plcyNm + "'에 대한 댓글들을 나눠 요약한 내용입니다. 전체 핵심 의견을 요약해줘:\n"
+                        : "다음은 정책 '" + plcyNm + "'에 대한 댓글들입니다. 핵심 의견을 요약해줘:\n";
+                return summarize(header + chunks.get(0));
+            }
+
+            int total = chunks.size();
+            List<String> partials = Flux.range(0, total)
+                    .flatMapSequential(i -> perplexityClient.summarizeAsync(
+                            "다음은 정책 '" + plcyNm + "'에 대한 댓글 일부(" + (i + 1) + "/" + total + ")입니다. 핵심 의견을 요약해줘:\n"
+                                    + chunks.get(i),
+                            SUMMARY_TYPE, SUMMARY_MAX_TOKENS), maxConcurrentChunks)
+                    .map(resp -> resp.getChoices()[0].getMessage().getContent())
+                    .collectList()
+                    .block();
+            texts = partials;
+            partial = true;
+        }
+    }
+
+    private String summarize(String prompt) {
+        return perplexityClient.summarize(prompt, SUMMARY_TYPE).getChoices()[0].getMessage().getContent();
+    }
+
+    // 줄 단위로 limit 이하씩 묶음 (한 줄이 더 길면 잘라서 넣음)
+    private static List<String> chunk(List<String> texts, int limit) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) continue;
+            String line = text.length() > limit ? text.substring(0, limit) : text;
+            if (current.length() > 0 && current.length() + line.length() + 1 > limit) {
+                chunks.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) current.append('\n');
+            current.append(line);
+        }
+        if (current.length() > 0 || chunks.isEmpty()) chunks.add(current.toString());
+        return chunks;
+    }
+}
@@ -0,0 +1,132 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import seasonton.youthPolicy.domain.policy.domain.entity.ReplyVerdict;
+import seasonton.youthPolicy.domain.policy.domain.repository.ReplyVerdictRepository;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.global.infra.PromptHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 댓글 검사 판정 저장소
+ * - 키 = 정규화한 댓글 내용의 SHA-256 + 검사 프롬프트 버전 (프롬프트를 고치면 전부 다시 검사)
+ * - reply_verdict 테이블에 영구 저장, 그 위에 최근 판정 LRU 메모리 캐시 (maximum-size 상한)
+ * 같은 내용이 반복해서 올라오거나 이미 검사한 댓글은 LLM 에 다시 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class ReplyVerdictStore {
+
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final ReplyVerdictRepository replyVerdictRepository;
+    private final PromptHolder promptHolder;
+    private final TransactionTemplate transactionTemplate;
+    private final Resource prompt;
+    private final int maximumSize;
+
+    // access-order LinkedHashMap → 가장 오래 안 쓴 판정부터 제거 (this 로 동기화)
+    private final LinkedHashMap<String, PolicyResponseDTO.ReplyFilterResponse> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private String promptVersion;
+
+    public ReplyVerdictStore(
+            ReplyVerdictRepository replyVerdictRepository,
+            PromptHolder promptHolder,
+            TransactionTemplate transactionTemplate,
+            @Value("classpath:templates/reply-batch-filtering-prompt.st") Resource prompt,
+            @Value("${moderation.verdict-cache.maximum-size:10000}") int maximumSize
+    ) {
+        this.replyVerdictRepository = replyVerdictRepository;
+        this.promptHolder = promptHolder;
+        this.transactionTemplate = transactionTemplate;
+        this.prompt = prompt;
+        this.maximumSize = maximumSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        promptVersion = sha256(promptHolder.reportPrompt(prompt)).substring(0, 16);
+        log.info("[ReplyVerdictStore] 검사 프롬프트 버전 {}", promptVersion);
+    }
+
+    // 공백/대소문자/전각 차이를 없앤 내용의 해시
+    public static String contentHash(String content) {
+        String normalized = content == null ? ""
+                : Normalizer.normalize(content, Normalizer.Form.NFKC)
+                        .replaceAll("\\s+", " ")
+                        .trim()
+                        .toLowerCase(Locale.ROOT);
+        return sha256(normalized);
+    }
+
+    // 해시 → 판정 (메모리 → DB 순, 판정이 없는 해시는 결과에 없음)
+    public Map<String, PolicyResponseDTO.ReplyFilterResponse> findAll(Collection<String> contentHashes) {
+        Map<String, PolicyResponseDTO.ReplyFilterResponse> found = new HashMap<>();
+        Set<String> misses = new HashSet<>();
+        synchronized (this) {
+            for (String hash : contentHashes) {
+                PolicyResponseDTO.ReplyFilterResponse verdict = cache.get(hash);
+                if (verdict != null) found.put(hash, verdict);
+                else misses.add(hash);
+            }
+        }
+        if (misses.isEmpty()) return found;
+
+        Map<String, PolicyResponseDTO.ReplyFilterResponse> loaded = new HashMap<>();
+        for (ReplyVerdict row : replyVerdictRepository.findByPromptVersionAndContentHashIn(promptVersion, misses)) {
+            loaded.put(row.getContentHash(), toResponse(row.isAllowed(), row.getReason()));
+        }
+        remember(loaded);
+        found.putAll(loaded);
+        return found;
+    }
+
+    // 새 판정 저장 (DB + 메모리)
+    public void saveAll(Map<String, PolicyResponseDTO.ReplyFilterResponse> verdicts) {
+        if (verdicts.isEmpty()) return;
+        transactionTemplate.executeWithoutResult(status ->
+                verdicts.forEach((hash, verdict) -> replyVerdictRepository.upsert(
+                        hash, promptVersion, verdict.isAllowed(), truncate(verdict.getReason()))));
+        remember(verdicts);
+    }
+
+    private synchronized void remember(Map<String, PolicyResponseDTO.ReplyFilterResponse> verdicts) {
+        cache.putAll(verdicts);
+        Iterator<String> eldest = cache.keySet().iterator();
+        while (cache.size() > maximumSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static PolicyResponseDTO.ReplyFilterResponse toResponse(boolean allowed, String reason) {
+        return PolicyResponseDTO.ReplyFilterResponse.builder()
+                .allowed(allowed)
+                .reason(reason)
+                .build();
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null) return null;
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
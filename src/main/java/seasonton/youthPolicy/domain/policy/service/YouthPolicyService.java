@@ -1,37 +1,37 @@
 package seasonton.youthPolicy.domain.policy.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import seasonton.youthPolicy.domain.member.domain.entity.User;
 import seasonton.youthPolicy.domain.member.domain.repository.UserRepository;
+import seasonton.youthPolicy.domain.policy.converter.PolicyConverter;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
 import seasonton.youthPolicy.domain.policy.domain.entity.PolicyLike;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicyLikeCount;
 import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReply;
 import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReplyLike;
-import seasonton.youthPolicy.domain.policy.domain.enums.EarnConditionCode;
-import seasonton.youthPolicy.domain.policy.domain.enums.JobCode;
 import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
-import seasonton.youthPolicy.domain.policy.domain.enums.SchoolCode;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyLikeCountRepository;
 import seasonton.youthPolicy.domain.policy.domain.repository.PolicyLikeRepository;
 import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyLikeRepository;
 import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyRepository;
 import seasonton.youthPolicy.domain.policy.dto.PolicyRequestDTO;
 import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
 import seasonton.youthPolicy.domain.policy.exception.PolicyException;
 
-import seasonton.youthPolicy.domain.post.converter.PostConverter;
 import seasonton.youthPolicy.domain.report.dto.perplexityDTO;
-import seasonton.youthPolicy.global.common.RegionCodeMapper;
+import seasonton.youthPolicy.global.common.Sido;
+import seasonton.youthPolicy.global.common.Today;
 import seasonton.youthPolicy.global.error.code.status.ErrorStatus;
 import seasonton.youthPolicy.global.infra.PerplexityClient;
+import seasonton.youthPolicy.global.infra.YouthPolicyClient;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -40,21 +40,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class YouthPolicyService {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper; // JSON → DTO 변환용
-    private final RegionCodeMapper regionCodeMapper;
+    private final YouthPolicyClient youthPolicyClient;
+    private final PolicyRepository policyRepository;
+    private final PolicySyncService policySyncService;
+    private final PolicySearchIndex policySearchIndex;
+    private final PolicyLikeRanking policyLikeRanking;
+    private final PolicyDetailCache policyDetailCache;
     private final UserRepository userRepository;
     private final PolicyReplyRepository policyReplyRepository;
     private final PolicyLikeRepository policyLikeRepository;
     private final PerplexityClient perplexityClient;
     private final PolicyReplyLikeRepository policyReplyLikeRepository;
-
-
-    @Value("${youth.api.url}")
-    private String baseUrl;
-
-    @Value("${youth.api.key}")
-    private String apiKey;
+    private final PolicyLikeCountRepository policyLikeCountRepository;
 
     /*
     활용 할 정책 컬럼
@@ -83,166 +80,77 @@ public class YouthPolicyService {
     대분류:lclsfNm
     * */
 
+    /*
+    조회는 로컬 카탈로그(PolicySyncService 가 동기화)를 우선 사용하고,
+    카탈로그가 youth.catalog.max-staleness 보다 오래됐으면 API 를 직접 호출한다.
+    API 가 실패/차단/포화 상태면 오래된 카탈로그라도 stale=true 로 표시해 반환하고,
+    카탈로그는 다음 동기화 때 다시 최신화된다.
+    * */
+
     // 최신 순 조회
     public PolicyResponseDTO.PolicyListResponse getPolicies(int pageNum, int pageSize) {
         try {
-            String url = baseUrl
-                    + "?apiKeyNm=" + apiKey
-                    + "&rtnType=json"
-                    + "&pageNum=" + pageNum
-                    + "&pageSize=" + pageSize;
-
-            String response = restTemplate.getForObject(url, String.class);
-            if (response == null || response.isBlank()) {
-                throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
-            }
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode resultNode = root.path("result");
-            JsonNode items = resultNode.path("youthPolicyList");
-
-            if (items.isMissingNode() || !items.isArray()) {
-                throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
-            }
-
-            // API에서 내려주는 전체 개수
-            int totalCount = resultNode.path("paging").path("totalCount").asInt(-1);
-
-            List<PolicyResponseDTO.YouthPolicyResponse> results = new ArrayList<>();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-            for (JsonNode item : items) {
-                Set<String> regionSet = new HashSet<>();
-                String zipCodes = item.path("zipCd").asText(null);
-                if (zipCodes != null && !zipCodes.isBlank()) {
-                    for (String code : zipCodes.split(",")) {
-                        String regionName = regionCodeMapper.getRegionName(code.trim());
-                        if (regionName != null) {
-                            regionSet.add(extractTopLevel(regionName));
-                        }
-                    }
-                }
-
-                // 17개 지역이 전부 들어있으면 "전국"으로 교체
-                if (regionSet.containsAll(ALL_REGIONS)) {
-                    regionSet.clear();
-                    regionSet.add("전국");
+            Page<Policy> page;
+            boolean stale = false;
+            if (policySyncService.isFresh()) {
+                page = policyRepository.findAllOrderByFrstRegDtDesc(PageRequest.of(pageNum - 1, pageSize));
+            } else {
+                try {
+                    page = fetchPolicyPage(pageNum, pageSize);
+                } catch (PolicyException e) {
+                    if (!canServeStale(e)) throw e;
+                    page = policyRepository.findAllOrderByFrstRegDtDesc(PageRequest.of(pageNum - 1, pageSize));
+                    stale = true;
                 }
-
-                String startDate = item.path("bizPrdBgngYmd").asText(null);
-                String endDate = item.path("bizPrdEndYmd").asText(null);
-                PolicyStatus status = calculateStatus(startDate, endDate);
-
-                Long likeCount = policyLikeRepository.countByPlcyNo(item.path("plcyNo").asText(null));
-
-                results.add(
-                        PolicyResponseDTO.YouthPolicyResponse.builder()
-                                .plcyNo(item.path("plcyNo").asText(null))
-                                .plcyNm(item.path("plcyNm").asText(null))
-                                .regionNames(regionSet)
-                                .frstRegDt(item.path("frstRegDt").asText(null))
-                                .lclsfNm(item.path("lclsfNm").asText(null))
-                                .likeCount(likeCount)
-                                .status(status)
-                                .startDate(startDate == null || startDate.isBlank() ? "상시" : startDate)
-                                .endDate(endDate == null || endDate.isBlank() ? "상시" : endDate)
-                                .bizPrdBgngYmd(item.path("bizPrdBgngYmd").asText(null))
-                                .bizPrdEndYmd(item.path("bizPrdEndYmd").asText(null))
-                                .build()
-                );
             }
 
-            if (totalCount == -1) {
-                totalCount = results.size();
-            }
-
-            results.sort(
-                    Comparator.comparing(
-                                    (PolicyResponseDTO.YouthPolicyResponse p) ->
-                                            LocalDateTime.parse(p.getFrstRegDt(), formatter))
-                            .reversed()
-                            .thenComparing(PolicyResponseDTO.YouthPolicyResponse::getPlcyNm,
-                                    Comparator.nullsLast(String::compareTo))
-            );
+            Map<String, Long> likeCounts = countLikes(page.getContent());
+            List<PolicyResponseDTO.YouthPolicyResponse> results = page.getContent().stream()
+                    .map(policy -> PolicyConverter.toYouthPolicyResponse(
+                            policy,
+                            likeCounts.getOrDefault(policy.getPlcyNo(), 0L),
+                            calculateStatus(policy)))
+                    .toList();
 
             // 전체 개수 + 정책 리스트 반환
             return PolicyResponseDTO.PolicyListResponse.builder()
-                    .totalCount(totalCount)
+                    .totalCount((int) page.getTotalElements())
                     .policies(results)
+                    .stale(stale)
                     .build();
 
+        } catch (PolicyException e) {
+            throw e;
         } catch (Exception e) {
             throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
         }
     }
 
-    // 좋아요 순 조회
-    public PolicyResponseDTO.PolicyLikeListResponse getPoliciesOrderByLikes(int pageNum, int pageSize) {
+    // 좋아요 순 조회 (cursor 가 있으면 커서 페이징, 없으면 pageNum 기준)
+    public PolicyResponseDTO.PolicyLikeListResponse getPoliciesOrderByLikes(int pageNum, int pageSize, String cursor) {
         try {
-            String url = baseUrl
-                    + "?apiKeyNm=" + apiKey
-                    + "&rtnType=json"
-                    + "&pageNum=" + pageNum
-                    + "&pageSize=" + pageSize;
-
-            String response = restTemplate.getForObject(url, String.class);
-            if (response == null || response.isBlank()) {
-                throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
+            if (policyLikeRanking.isReady()) {
+                // 카탈로그 전체 좋아요 순위에서 바로 페이징 (전체 순위는 API 로 만들 수 없으므로 오래됐으면 stale 표시)
+                return rankedPage(pageNum, pageSize, cursor, !policySyncService.isFresh());
             }
 
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode resultNode = root.path("result");
-            JsonNode items = resultNode.path("youthPolicyList");
-
-            if (items.isMissingNode() || !items.isArray()) {
-                throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
+            // 카탈로그가 아직 없으면 API 한 페이지 안에서만 정렬
+            Page<Policy> page;
+            try {
+                page = fetchPolicyPage(pageNum, pageSize);
+            } catch (PolicyException e) {
+                // API 장애 중 카탈로그 순위가 준비됐으면 그 순위로
+                if (!canServeStale(e)) throw e;
+                return rankedPage(pageNum, pageSize, cursor, true);
             }
 
-            int totalCount = resultNode.path("paging").path("totalCount").asInt(-1);
-
+            Map<String, Long> likeCounts = countLikes(page.getContent());
             List<PolicyResponseDTO.YouthPolicyLikeResponse> results = new ArrayList<>();
-
-            for (JsonNode item : items) {
-                Set<String> regionSet = new HashSet<>();
-                String zipCodes = item.path("zipCd").asText(null);
-                if (zipCodes != null && !zipCodes.isBlank()) {
-                    for (String code : zipCodes.split(",")) {
-                        String regionName = regionCodeMapper.getRegionName(code.trim());
-                        if (regionName != null) {
-                            regionSet.add(extractTopLevel(regionName));
-                        }
-                    }
-                }
-
-                // 17개 지역이 전부 들어있으면 "전국"으로 교체
-                if (regionSet.containsAll(ALL_REGIONS)) {
-                    regionSet.clear();
-                    regionSet.add("전국");
-                }
-
-                String startDate = item.path("bizPrdBgngYmd").asText(null);
-                String endDate = item.path("bizPrdEndYmd").asText(null);
-                PolicyStatus status = calculateStatus(startDate, endDate);
-
-                results.add(
-                        PolicyResponseDTO.YouthPolicyLikeResponse.builder()
-                                .plcyNo(item.path("plcyNo").asText(null))
-                                .plcyNm(item.path("plcyNm").asText(null))
-                                .regionNames(regionSet)
-                                .frstRegDt(item.path("frstRegDt").asText(null))
-                                .lclsfNm(item.path("lclsfNm").asText(null))
-                                .likeCount(policyLikeRepository.countByPlcyNo(item.path("plcyNo").asText(null)))
-                                .status(status)
-                                .startDate(startDate == null || startDate.isBlank() ? "상시" : startDate)
-                                .endDate(endDate == null || endDate.isBlank() ? "상시" : endDate)
-                                .bizPrdBgngYmd(item.path("bizPrdBgngYmd").asText(null))
-                                .bizPrdEndYmd(item.path("bizPrdEndYmd").asText(null))
-                                .build()
-                );
-            }
-
-            if (totalCount == -1) {
-                totalCount = results.size();
+            for (Policy policy : page.getContent()) {
+                results.add(PolicyConverter.toYouthPolicyLikeResponse(
+                        policy,
+                        likeCounts.getOrDefault(policy.getPlcyNo(), 0L),
+                        calculateStatus(policy)));
             }
 
             // 정렬
@@ -253,48 +161,46 @@ public class YouthPolicyService {
             );
 
             return PolicyResponseDTO.PolicyLikeListResponse.builder()
-                    .totalCount(totalCount)
+                    .totalCount((int) page.getTotalElements())
                     .policies(results)
                     .build();
 
+        } catch (PolicyException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new PolicyException(ErrorStatus.POLICY_INVALID_REQUEST);
         } catch (Exception e) {
             throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
         }
     }
 
+    // 카탈로그 좋아요 순위 한 페이지 (cursor 가 있으면 커서 페이징)
+    private PolicyResponseDTO.PolicyLikeListResponse rankedPage(int pageNum, int pageSize, String cursor, boolean stale) {
+        PolicyLikeRanking.RankingPage ranked = cursor == null || cursor.isBlank()
+                ? policyLikeRanking.page(pageNum, pageSize)
+                : policyLikeRanking.after(cursor, pageSize);
+
+        List<PolicyResponseDTO.YouthPolicyLikeResponse> results = ranked.policies().stream()
+                .map(entry -> PolicyConverter.toYouthPolicyLikeResponse(
+                        entry.policy(),
+                        entry.likeCount(),
+                        calculateStatus(entry.policy())))
+                .toList();
+
+        return PolicyResponseDTO.PolicyLikeListResponse.builder()
+                .totalCount(ranked.totalCount())
+                .policies(results)
+                .nextCursor(ranked.nextCursor())
+                .stale(stale)
+                .build();
+    }
+
     // 정책 상태 조회
     public PolicyResponseDTO.PolicyStatusResponse getPolicyStatus(String plcyNo) {
         try {
-            String url = baseUrl
-                    + "?apiKeyNm=" + apiKey
-                    + "&rtnType=json"
-                    + "&plcyNo=" + plcyNo;
-
-            String response = restTemplate.getForObject(url, String.class);
-            if (response == null || response.isBlank()) {
-                throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
-            }
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode item = root.path("result").path("youthPolicyList").get(0);
-
-            if (item == null || item.isMissingNode()) {
-                throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
-            }
-
-            String plcyNm = item.path("plcyNm").asText(null);          // ✅ 정책명
-            String startDate = item.path("bizPrdBgngYmd").asText(null);
-            String endDate = item.path("bizPrdEndYmd").asText(null);
-
-            PolicyStatus status = calculateStatus(startDate, endDate);
-
-            return PolicyResponseDTO.PolicyStatusResponse.builder()
-                    .plcyNo(plcyNo)
-                    .plcyNm(plcyNm)
-                    .status(status)
-                    .startDate(startDate == null || startDate.isBlank() ? "상시" : startDate)
-                    .endDate(endDate == null || endDate.isBlank() ? "상시" : endDate)
-                    .build();
+            Policy policy = findPolicyByNo(plcyNo).policy();
+            PolicyStatus status = calculateStatus(policy);
+            return PolicyConverter.toPolicyStatusResponse(policy, status);
 
         } catch (PolicyException e) {
             throw e;
@@ -306,42 +212,7 @@ public class YouthPolicyService {
     // 정책 지역 정보 조회
     public PolicyResponseDTO.PolicyRegionResponse getPolicyRegionsByNo(String plcyNo) {
         try {
-            String url = baseUrl
-                    + "?apiKeyNm=" + apiKey
-                    + "&rtnType=json"
-                    + "&plcyNo=" + plcyNo;
-
-            String response = restTemplate.getForObject(url, String.class);
-            if (response == null || response.isBlank()) {
-                throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
-            }
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode items = root.path("result").path("youthPolicyList");
-
-            if (items.isMissingNode() || !items.isArray() || items.isEmpty()) {
-                throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
-            }
-
-            JsonNode item = items.get(0); // 단일 정책 조회니까 첫 번째만 사용
-            Set<String> regionSet = new HashSet<>();
-
-            String zipCodes = item.path("zipCd").asText(null);
-            if (zipCodes != null && !zipCodes.isBlank()) {
-                String[] codes = zipCodes.split(",");
-
-                for (String code : codes) {
-                    String regionName = regionCodeMapper.getRegionName(code.trim());
-                    if (regionName != null) {
-                        String topLevelRegion = extractTopLevel(regionName); // ✅ 시/도 단위 추출
-                        regionSet.add(topLevelRegion);
-                    }
-                }
-            }
-
-            return PolicyResponseDTO.PolicyRegionResponse.builder()
-                    .regions(regionSet)
-                    .build();
+            return PolicyConverter.toPolicyRegionResponse(findPolicyByNo(plcyNo).policy());
 
         } catch (PolicyException e) {
             throw e;
@@ -353,78 +224,18 @@ public class YouthPolicyService {
     // 정책 상세보기
     public PolicyResponseDTO.YouthPolicyDetailResponse getPolicyDetailByName(String plcyNm) {
         try {
-            String url = baseUrl
-                    + "?apiKeyNm=" + apiKey
-                    + "&rtnType=json"
-                    + "&plcyNm=" + plcyNm;
-
-            String response = restTemplate.getForObject(url, String.class);
-            if (response == null || response.isBlank()) {
-                throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
-            }
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode items = root.path("result").path("youthPolicyList");
-
-            if (items.isMissingNode() || !items.isArray() || items.isEmpty()) {
-                throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
-            }
-
-            JsonNode item = items.get(0);
-
-            // 지역 변환 (시/도 단위만)
-            Set<String> regionSet = new HashSet<>();
-            String zipCodes = item.path("zipCd").asText(null);
-            if (zipCodes != null && !zipCodes.isBlank()) {
-                String[] codes = zipCodes.split(",");
-                for (String code : codes) {
-                    String regionName = regionCodeMapper.getRegionName(code.trim());
-                    if (regionName != null) {
-                        String topLevelRegion = extractTopLevel(regionName); // 시/도 단위 추출
-                        regionSet.add(topLevelRegion);
-                    }
-                }
-            }
-
-            // 17개 지역이 전부 들어있으면 "전국"으로 교체
-            if (regionSet.containsAll(ALL_REGIONS)) {
-                regionSet.clear();
-                regionSet.add("전국");
-            }
-
-            return PolicyResponseDTO.YouthPolicyDetailResponse.builder()
-                    .plcyNo(item.path("plcyNo").asText(null))
-                    .plcyNm(item.path("plcyNm").asText(null))
-                    .regions(regionSet)
-                    .aplyUrlAddr(item.path("aplyUrlAddr").asText(null))
-                    .plcyExplnCn(item.path("plcyExplnCn").asText(null))
-                    .plcySprtCn(item.path("plcySprtCn").asText(null))
-                    .sprtSclLmtYn(item.path("sprtSclLmtYn").asText(null))
-                    .plcyAplyMthdCn(item.path("plcyAplyMthdCn").asText(null))
-                    .sprtTrgtMinAge(item.hasNonNull("sprtTrgtMinAge") ? item.get("sprtTrgtMinAge").asInt() : null)
-                    .sprtTrgtMaxAge(item.hasNonNull("sprtTrgtMaxAge") ? item.get("sprtTrgtMaxAge").asInt() : null)
-                    .sprtTrgtAgeLmtYn(item.path("sprtTrgtAgeLmtYn").asText(null))
-                    .schoolCd(SchoolCode.fromCode(item.path("schoolCd").asText(null)))
-                    .jobCd(JobCode.fromCode(item.path("jobCd").asText(null)))
-                    .earnCndSeCd(EarnConditionCode.fromCode(item.path("earnCndSeCd").asText(null)))
-                    .earnMinAmt(item.hasNonNull("earnMinAmt") ? item.get("earnMinAmt").asInt() : null)
-                    .earnMaxAmt(item.hasNonNull("earnMaxAmt") ? item.get("earnMaxAmt").asInt() : null)
-                    .earnEtcCn(item.path("earnEtcCn").asText(null))
-                    .addAplyQlfcCndCn(item.path("addAplyQlfcCndCn").asText(null))
-                    .sbmsnDcmntCn(item.path("sbmsnDcmntCn").asText(null))
-                    .srngMthdCn(item.path("srngMthdCn").asText(null))
-                    .frstRegDt(item.path("frstRegDt").asText(null))
-                    .lastMdfcnDt(item.path("lastMdfcnDt").asText(null))
-                    .lclsfNm(item.path("lclsfNm").asText(null))
-                    .startDate(item.path("bizPrdBgngYmd").asText(null))
-                    .endDate(item.path("bizPrdEndYmd").asText(null))
-                    .aplyYmd(item.path("aplyYmd").asText(null))
-                    .bizPrdBgngYmd(item.path("bizPrdBgngYmd").asText(null))
-                    .bizPrdEndYmd(item.path("bizPrdEndYmd").asText(null))
-                    .build();
+            return policyDetailCache.getByPlcyNm(plcyNm, () -> {
+                Optional<Policy> stored = policySyncService.isFresh()
+                        ? policyRepository.findFirstByPlcyNm(plcyNm)
+                        : Optional.empty();
+                return stored.orElseGet(() -> firstItem(youthPolicyClient.fetchByPlcyNm(plcyNm)));
+            }).detail();
 
         } catch (PolicyException e) {
-            throw e;
+            if (!canServeStale(e)) throw e;
+            return policyRepository.findFirstByPlcyNm(plcyNm)
+                    .map(policy -> PolicyConverter.toYouthPolicyDetailResponse(policy, true))
+                    .orElseThrow(() -> e);
         } catch (Exception e) {
             throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
         }
@@ -467,18 +278,15 @@ public class YouthPolicyService {
     // 댓글 조회
     public List<PolicyResponseDTO.ReplyListResponse> getReplies(String plcyNo) {
         return policyReplyRepository.findByPlcyNo(plcyNo).stream()
-                .map(reply -> {
-                        Long likeCnt = policyReplyLikeRepository.countByPolicyReplyId(reply.getId());
-                        return PolicyResponseDTO.ReplyListResponse.builder()
+                .map(reply -> PolicyResponseDTO.ReplyListResponse.builder()
                         .id(reply.getId())
                         .content(reply.getContent())
                         .isAnonymous(reply.isAnonymous())
                         .plcyNo(reply.getPlcyNo())
                         .plcyNm(reply.getPlcyNm())
                         .writer(reply.isAnonymous() ? "익명" : reply.getUser().getNickname())
-                        .likeCount(likeCnt)
-                        .build();
-                })
+                        .likeCount(reply.getLikeCount())
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -538,69 +346,27 @@ public class YouthPolicyService {
         // 이미 좋아요 한 경우 → 취소
         policyReplyLikeRepository.findByUserIdAndPolicyReplyId(userId, replyId)
                 .ifPresentOrElse(
-                        policyReplyLikeRepository::delete, () -> {
+                        existing -> {
+                            policyReplyLikeRepository.delete(existing);
+                            policyReplyRepository.decreaseLikeCount(replyId);
+                        }, () -> {
                             // 좋아요 추가
                             PolicyReplyLike newLike = PolicyReplyLike.builder()
                                     .user(user)
                                     .policyReply(reply)
                                     .build();
                             policyReplyLikeRepository.save(newLike);
+                            policyReplyRepository.increaseLikeCount(replyId);
                         }
                 );
     }
 
     // 정책 댓글 좋아요 개수 조회
     public Long getPolicyReplyLikeCount(Long replyId) {
-        return policyReplyLikeRepository.countByPolicyReplyId(replyId);
-    }
-    // 댓글 요약
-    public PolicyResponseDTO.ReplySummaryResponse summarizeReplies(String plcyNo, String plcyNm) {
-        List<PolicyReply> replies = policyReplyRepository.findByPlcyNo(plcyNo);
-
-        if (replies.isEmpty()) {
-            return PolicyResponseDTO.ReplySummaryResponse.builder()
-                    .plcyNo(plcyNo)
-                    .summary("댓글이 아직 존재하지 않습니다.")
-                    .build();
-        }
-
-        String combined = replies.stream()
-                .map(PolicyReply::getContent)
-                .collect(Collectors.joining("\n"));
-
-        perplexityDTO.PerplexityChatResponse resp = perplexityClient.summarize(
-                "다음은 정책 '" + plcyNm + "'에 대한 댓글들입니다. 핵심 의견을 요약해줘:\n" + combined,
-                2
-        );
-
-        String summary = resp.getChoices()[0].getMessage().getContent();
-
-        return PolicyResponseDTO.ReplySummaryResponse.builder()
-                .plcyNo(plcyNo)
-                .summary(summary)
-                .build();
+        return policyReplyRepository.findById(replyId)
+                .map(PolicyReply::getLikeCount)
+                .orElse(0L);
     }
-
-    // 댓글 자동 필터링 -> 2차로 검사
-    @Transactional
-    public List<Long> autoDeleteAbnormalReplies(String plcyNo) {
-        List<PolicyReply> replies = policyReplyRepository.findByPlcyNo(plcyNo);
-
-        List<Long> deletedIds = new ArrayList<>();
-
-        for (PolicyReply reply : replies) {
-            PolicyResponseDTO.ReplyFilterResponse filter = filterComment(reply.getContent());
-
-            if (!filter.isAllowed()) {
-                policyReplyRepository.delete(reply);
-                deletedIds.add(reply.getId());
-            }
-        }
-
-        return deletedIds;
-    }
-
-
     // 정책 좋아요 토글 (추가/취소)
     @Transactional
     public String toggleLike(Long userId, String plcyNo) {
@@ -612,6 +378,8 @@ public class YouthPolicyService {
 
         if (existing != null) {
             policyLikeRepository.delete(existing);
+            policyLikeCountRepository.decreaseLikeCount(plcyNo);
+            policyLikeRanking.onLikeChanged(plcyNo, -1);
             return "좋아요 취소됨";
         } else {
             PolicyLike like = PolicyLike.builder()
@@ -619,122 +387,62 @@ public class YouthPolicyService {
                     .plcyNo(plcyNo)
                     .build();
             policyLikeRepository.save(like);
+            policyLikeCountRepository.increaseLikeCount(plcyNo);
+            policyLikeRanking.onLikeChanged(plcyNo, 1);
             return "좋아요 추가됨";
         }
     }
 
     // 정책 좋아요 개수 조회
     public long getLikeCount(String plcyNo) {
-        return policyLikeRepository.countByPlcyNo(plcyNo);
+        return policyLikeCountRepository.findById(plcyNo)
+                .map(PolicyLikeCount::getLikeCount)
+                .orElse(0L);
     }
 
     // 정책 검색
     public PolicyResponseDTO.PolicySearchListResponse searchPolicies(
-            List<String> categories, String plcyNm, List<String> regions,
+            List<String> categories, String plcyNm, List<String> regions, PolicyStatus status,
             int pageNum, int pageSize) {
 
         try {
-            Set<String> seen = new HashSet<>();
-            List<PolicyResponseDTO.YouthPolicySearchResponse> results = new ArrayList<>();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
             // 카테고리가 없으면 전체 조회도 가능하도록 처리
             if (categories == null || categories.isEmpty()) {
                 categories = List.of(""); // 빈 값으로 전체 조회
             }
 
-            for (String category : categories) {
-                String url = baseUrl
-                        + "?apiKeyNm=" + apiKey
-                        + "&rtnType=json"
-                        + "&pageNum=" + pageNum
-                        + "&pageSize=" + pageSize;
-
-                if (category != null && !category.isBlank()) {
-                    url += "&lclsfNm=" + category;
-                }
-
-                // 정책명 검색 (상세보기랑 동일하게 그대로 붙임)
-                if (plcyNm != null && !plcyNm.isBlank()) {
-                    url += "&plcyNm=" + plcyNm;
-                }
-
-                String response = restTemplate.getForObject(url, String.class);
-                if (response == null || response.isBlank()) continue;
-
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode items = root.path("result").path("youthPolicyList");
-                if (items.isMissingNode() || !items.isArray()) continue;
-
-                for (JsonNode item : items) {
-                    String plcyNo = item.path("plcyNo").asText(null);
-                    if (plcyNo != null && seen.add(plcyNo)) {
-
-                        // 지역 처리
-                        Set<String> regionSet = new HashSet<>();
-                        String zipCodes = item.path("zipCd").asText(null);
-                        if (zipCodes != null && !zipCodes.isBlank()) {
-                            for (String code : zipCodes.split(",")) {
-                                String regionName = regionCodeMapper.getRegionName(code.trim());
-                                if (regionName != null) {
-                                    regionSet.add(extractTopLevel(regionName));
-                                }
-                            }
-                        }
-
-                        // 지역 태그 필터링
-                        if (regions != null && !regions.isEmpty()) {
-                            boolean matched = regionSet.stream()
-                                    .anyMatch(region -> regions.stream().anyMatch(region::contains));
-                            if (!matched) continue;
-                        }
-
-                        // 17개 지역이 전부 들어있으면 "전국"으로 교체
-                        if (regionSet.containsAll(ALL_REGIONS)) {
-                            regionSet.clear();
-                            regionSet.add("전국");
-                        }
-
-                        // 좋아요 수
-                        Long likeCount = policyLikeRepository.countByPlcyNo(plcyNo);
-
-                        // 정책 상태 계산
-                        String startDate = item.path("bizPrdBgngYmd").asText(null);
-                        String endDate = item.path("bizPrdEndYmd").asText(null);
-                        PolicyStatus status = calculateStatus(startDate, endDate);
-
-                        results.add(
-                                PolicyResponseDTO.YouthPolicySearchResponse.builder()
-                                        .plcyNo(plcyNo)
-                                        .plcyNm(item.path("plcyNm").asText(null))
-                                        .regionNames(regionSet)
-                                        .frstRegDt(item.path("frstRegDt").asText(null))
-                                        .lclsfNm(item.path("lclsfNm").asText(null))
-                                        .likeCount(likeCount)
-                                        .status(status)
-                                        .startDate(startDate == null || startDate.isBlank() ? "상시" : startDate)
-                                        .endDate(endDate == null || endDate.isBlank() ? "상시" : endDate)
-                                        .bizPrdBgngYmd(item.path("bizPrdBgngYmd").asText(null))
-                                        .bizPrdEndYmd(item.path("bizPrdEndYmd").asText(null))
-                                        .build()
-                        );
-                    }
+            List<Policy> matched = null;
+            int totalCount = 0;
+            boolean stale = false;
+            if (!policySyncService.isFresh() || !policySearchIndex.isReady()) {
+                try {
+                    matched = searchApi(categories, plcyNm, regions, status, pageNum, pageSize);
+                    totalCount = matched.size();
+                } catch (PolicyException e) {
+                    if (!canServeStale(e)) throw e;
+                    stale = true;
                 }
             }
+            if (matched == null) {
+                // 메모리 인덱스에서 포스팅 교집합으로 검색 (전체 건수 정확)
+                PolicySearchIndex.SearchResult result =
+                        policySearchIndex.search(categories, regions, status, plcyNm, pageNum, pageSize);
+                totalCount = result.totalCount();
+                matched = result.policies();
+            }
 
-            // 최신순 정렬
-            results.sort(
-                    Comparator.comparing(
-                                    (PolicyResponseDTO.YouthPolicySearchResponse p) ->
-                                            LocalDateTime.parse(p.getFrstRegDt(), formatter))
-                            .reversed()
-                            .thenComparing(PolicyResponseDTO.YouthPolicySearchResponse::getPlcyNm,
-                                    Comparator.nullsLast(String::compareTo))
-            );
+            Map<String, Long> likeCounts = countLikes(matched);
+            List<PolicyResponseDTO.YouthPolicySearchResponse> results = matched.stream()
+                    .map(policy -> PolicyConverter.toYouthPolicySearchResponse(
+                            policy,
+                            likeCounts.getOrDefault(policy.getPlcyNo(), 0L),
+                            calculateStatus(policy)))
+                    .toList();
 
             return PolicyResponseDTO.PolicySearchListResponse.builder()
-                    .totalCount(results.size())
+                    .totalCount(totalCount)
                     .policies(results)
+                    .stale(stale)
                     .build();
 
         } catch (PolicyException e) {
@@ -746,64 +454,102 @@ public class YouthPolicyService {
         }
     }
 
+    // 카탈로그가 오래된 경우 카테고리별로 API 직접 조회
+    private List<Policy> searchApi(List<String> categories, String plcyNm, List<String> regions,
+                                   PolicyStatus status, int pageNum, int pageSize) {
+        Set<String> seen = new HashSet<>();
+        List<Policy> results = new ArrayList<>();
+
+        // 카테고리별 요청은 서로 독립적이라 병렬로 보냄
+        for (JsonNode result : youthPolicyClient.fetchPagesByCategory(
+                categories, pageNum, pageSize, plcyNm, PolicyConverter.LIST_FIELDS)) {
+            JsonNode items = result.path("youthPolicyList");
+            if (items.isMissingNode() || !items.isArray()) continue;
+
+            for (JsonNode item : items) {
+                String plcyNo = item.path("plcyNo").asText(null);
+                if (plcyNo == null || !seen.add(plcyNo)) continue;
+
+                Policy policy = policySyncService.toPolicy(item);
+                if (matchesRegions(policy, regions) && (status == null
+                        || status == calculateStatus(policy))) {
+                    results.add(policy);
+                }
+            }
+        }
 
-    /**
-     * 지역명에서 시/도 단위만 추출
-     * 예) "서울특별시 강남구" → "서울특별시"
-     *     "경상북도 경산시" → "경상북도"
-     */
-    private String extractTopLevel(String fullRegionName) {
-        if (fullRegionName == null) return null;
-
-        // 띄어쓰기 기준 첫 단어 + "시"/"도" 단위까지만
-        if (fullRegionName.startsWith("서울특별시")) return "서울특별시";
-        if (fullRegionName.startsWith("부산광역시")) return "부산광역시";
-        if (fullRegionName.startsWith("대구광역시")) return "대구광역시";
-        if (fullRegionName.startsWith("인천광역시")) return "인천광역시";
-        if (fullRegionName.startsWith("광주광역시")) return "광주광역시";
-        if (fullRegionName.startsWith("대전광역시")) return "대전광역시";
-        if (fullRegionName.startsWith("울산광역시")) return "울산광역시";
-        if (fullRegionName.startsWith("세종특별자치시")) return "세종특별자치시";
-
-        if (fullRegionName.startsWith("경기도")) return "경기도";
-        if (fullRegionName.startsWith("강원도")) return "강원도";
-        if (fullRegionName.startsWith("충청북도")) return "충청북도";
-        if (fullRegionName.startsWith("충청남도")) return "충청남도";
-        if (fullRegionName.startsWith("전라북도")) return "전라북도";
-        if (fullRegionName.startsWith("전라남도")) return "전라남도";
-        if (fullRegionName.startsWith("경상북도")) return "경상북도";
-        if (fullRegionName.startsWith("경상남도")) return "경상남도";
-        if (fullRegionName.startsWith("제주특별자치도")) return "제주특별자치도";
-
-        // 못 찾으면 그대로 반환
-        return fullRegionName.split(" ")[0];
+        // 최신순 정렬
+        results.sort(PolicySearchIndex.LATEST_FIRST);
+        return results;
     }
 
-    // 17개 시/도 이름 집합
-    private static final Set<String> ALL_REGIONS = Set.of(
-            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시",
-            "대전광역시", "울산광역시", "세종특별자치시",
-            "경기도", "강원특별자치도", "충청북도", "충청남도", "전북특별자치도", "전라남도",
-            "경상북도", "경상남도", "제주특별자치도"
-    );
+    // 카탈로그가 오래된 경우 API 에서 한 페이지 조회
+    private Page<Policy> fetchPolicyPage(int pageNum, int pageSize) {
+        JsonNode resultNode = youthPolicyClient.fetchPage(pageNum, pageSize, null, null, PolicyConverter.LIST_FIELDS);
+        JsonNode items = resultNode.path("youthPolicyList");
 
+        if (items.isMissingNode() || !items.isArray()) {
+            throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
+        }
 
-    //진행 상태 계산
-    private PolicyStatus calculateStatus(String startDate, String endDate) {
+        List<Policy> policies = new ArrayList<>();
+        for (JsonNode item : items) {
+            policies.add(policySyncService.toPolicy(item));
+        }
+        policies.sort(PolicySearchIndex.LATEST_FIRST);
+
+        // API에서 내려주는 전체 개수
+        int totalCount = resultNode.path("paging").path("totalCount").asInt(policies.size());
+        return new PageImpl<>(policies, PageRequest.of(pageNum - 1, pageSize), totalCount);
+    }
 
-        if (startDate == null || startDate.isBlank() ||
-                endDate == null || endDate.isBlank()) {
-            return PolicyStatus.IN_PROGRESS;
+    // 한 페이지 정책들의 좋아요 수를 쿼리 한 번으로 조회 (좋아요 수 테이블)
+    private Map<String, Long> countLikes(List<Policy> policies) {
+        if (policies.isEmpty()) return Map.of();
+
+        List<String> plcyNos = policies.stream().map(Policy::getPlcyNo).distinct().toList();
+        Map<String, Long> likeCounts = new HashMap<>();
+        for (PolicyLikeCount count : policyLikeCountRepository.findByPlcyNoIn(plcyNos)) {
+            likeCounts.put(count.getPlcyNo(), count.getLikeCount());
         }
+        return likeCounts;
+    }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        LocalDate today = LocalDate.now();
-        LocalDate start = LocalDate.parse(startDate.trim(), formatter);
-        LocalDate end = LocalDate.parse(endDate.trim(), formatter);
+    // 정책 번호로 단건 조회 (상세 캐시 → 카탈로그 → API)
+    private PolicyDetailCache.CachedPolicy findPolicyByNo(String plcyNo) {
+        return policyDetailCache.getByPlcyNo(plcyNo, () -> {
+            Optional<Policy> stored = policySyncService.isFresh()
+                    ? policyRepository.findByPlcyNo(plcyNo)
+                    : Optional.empty();
+            return stored.orElseGet(() -> firstItem(youthPolicyClient.fetchByPlcyNo(plcyNo)));
+        });
+    }
 
-        if (today.isBefore(start)) return PolicyStatus.NOT_STARTED;
-        else if (!today.isAfter(end)) return PolicyStatus.IN_PROGRESS;
-        else return PolicyStatus.COMPLETED;
+    // API 실패(차단/포화 포함)이고 대신 내려줄 카탈로그가 있는지
+    private boolean canServeStale(PolicyException e) {
+        return (e.getCode() == ErrorStatus.POLICY_API_ERROR || e.getCode() == ErrorStatus.POLICY_API_UNAVAILABLE)
+                && policySearchIndex.isReady();
+    }
+
+    // 단일 정책 조회니까 첫 번째만 사용
+    private Policy firstItem(JsonNode resultNode) {
+        JsonNode items = resultNode.path("youthPolicyList");
+        if (items.isMissingNode() || !items.isArray() || items.isEmpty()) {
+            throw new PolicyException(ErrorStatus.POLICY_NOT_FOUND);
+        }
+        return policySyncService.toPolicy(items.get(0));
+    }
+
+    // 지역 태그 필터링 (시/도 이름에 요청 지역이 포함되면 통과)
+    private boolean matchesRegions(Policy policy, List<String> regions) {
+        if (regions == null || regions.isEmpty()) return true;
+        return (policy.getRegionMask() & Sido.maskMatching(regions)) != 0;
+    }
+
+
+    //진행 상태 계산
+    private PolicyStatus calculateStatus(Policy policy) {
+        return policy.statusAt(Today.epochDay());
     }
 
     // 댓글 필터링
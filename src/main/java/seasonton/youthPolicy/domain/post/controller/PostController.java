@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +20,7 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import seasonton.youthPolicy.domain.post.domain.entity.Posts;
 import seasonton.youthPolicy.domain.post.dto.PostRequestDTO;
 import seasonton.youthPolicy.domain.post.dto.PostResponseDTO;
@@ -38,6 +41,9 @@ import java.util.List;
 @RequestMapping("/posts")
 public class PostController {
 
+    // 목록 한 번에 조회할 수 있는 최대 개수 (커서/지역 목록)
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
 
     // 글 작성
@@ -118,6 +124,22 @@ public class PostController {
         return BaseResponse.onSuccess(SuccessStatus.VOTE_READ_SUCCESS, response);
     }
 
+    // 실시간 득표 현황 (SSE)
+    @GetMapping(value = "/vote/{post-id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "실시간 득표 현황 구독",
+            description = "첫 이벤트(vote)로 현재 투표 정보를 보내고, 이후 득표 수가 바뀌면 tally 이벤트를 보냅니다. " +
+                    "투표가 몰려도 투표당 최대 주기(기본 0.5초)마다 한 번만 전송합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)"),
+            @ApiResponse(responseCode = "POST_4004", description = "존재하지 않는 게시글"),
+            @ApiResponse(responseCode = "VOTE_4004", description = "존재하지 않는 투표")
+    })
+    public SseEmitter streamVote(@PathVariable("post-id") Long postId) {
+        return postService.subscribeVote(postId);
+    }
+
     // 투표 삭제
     @DeleteMapping("/vote/{post-id}/delete")
     @Operation(
@@ -191,20 +213,77 @@ public class PostController {
         return BaseResponse.onSuccess(SuccessStatus.POST_READ_SUCCESS, response);
     }
 
+    // 글 목록 커서 페이징
+    @GetMapping("/list/cursor")
+    @Operation(
+            summary = "게시글 목록 커서 조회",
+            description = "게시글을 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회하며, 전체 개수는 계산하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "POST_200", description = "게시글 목록 조회 성공"),
+            @ApiResponse(responseCode = "POST_4004", description = "잘못된 커서")
+    })
+    public BaseResponse<PostResponseDTO.PostCursorListResponse> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size
+    ) {
+        return BaseResponse.onSuccess(SuccessStatus.POST_READ_SUCCESS, postService.getPostsByCursor(cursor, size));
+    }
+
+    // 게시글 좋아요 순 커서 페이징
+    @GetMapping("/like-ranking/cursor")
+    @Operation(
+            summary = "게시글 좋아요 순 커서 조회",
+            description = "좋아요 개수가 많은 순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회하며, 전체 개수는 계산하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "POST_200", description = "좋아요 순 조회 성공"),
+            @ApiResponse(responseCode = "POST_4004", description = "잘못된 커서")
+    })
+    public BaseResponse<PostResponseDTO.PostLikeCursorListResponse> getPostsOrderByLikeCountByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size
+    ) {
+        return BaseResponse.onSuccess(SuccessStatus.POST_READ_SUCCESS,
+                postService.getPostsOrderByLikeCountByCursor(cursor, size));
+    }
+
     // 지역 기반 글 목록 조회
     @GetMapping("/region/{region-id}")
-    @Operation(summary = "지역별 게시글 조회", description = "특정 지역에 속한 게시글 목록을 조회합니다.")
+    @Operation(summary = "지역별 게시글 조회", description = "특정 지역에 속한 게시글 목록을 최신순으로 페이지 단위 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "POST_200", description = "지역별 게시글 조회 성공"),
             @ApiResponse(responseCode = "REGION_4001", description = "존재하지 않는 지역")
     })
     public BaseResponse<List<PostResponseDTO.PostRegionListResponse>> getPostsByRegion(
-            @PathVariable("region-id") Long regionId
+            @PathVariable("region-id") Long regionId,
+            @RequestParam(defaultValue = "1") @Min(1) int pageNum,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int pageSize
     ) {
-        List<PostResponseDTO.PostRegionListResponse> posts = postService.getPostsByRegion(regionId);
+        List<PostResponseDTO.PostRegionListResponse> posts = postService.getPostsByRegion(regionId, pageNum, pageSize);
         return BaseResponse.onSuccess(SuccessStatus.POST_READ_SUCCESS, posts);
     }
 
+    // 지역 기반 글 목록 커서 페이징
+    @GetMapping("/region/{region-id}/cursor")
+    @Operation(
+            summary = "지역별 게시글 커서 조회",
+            description = "특정 지역 게시글을 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "POST_200", description = "지역별 게시글 조회 성공"),
+            @ApiResponse(responseCode = "POST_4004", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "REGION_4001", description = "존재하지 않는 지역")
+    })
+    public BaseResponse<PostResponseDTO.PostRegionCursorListResponse> getPostsByRegionByCursor(
+            @PathVariable("region-id") Long regionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int size
+    ) {
+        return BaseResponse.onSuccess(SuccessStatus.POST_READ_SUCCESS,
+                postService.getPostsByRegionByCursor(regionId, cursor, size));
+    }
+
 
     // 글 상세 조회
     @GetMapping("/{post-id}")
@@ -1,10 +1,14 @@
 package seasonton.youthPolicy.domain.post.converter;
 
+import seasonton.youthPolicy.domain.post.domain.entity.PostVoteOption;
 import seasonton.youthPolicy.domain.post.domain.entity.Posts;
 import seasonton.youthPolicy.domain.post.domain.entity.Reply;
 import seasonton.youthPolicy.domain.post.dto.PostResponseDTO;
+import seasonton.youthPolicy.domain.post.dto.VoteResponseDTO;
 import seasonton.youthPolicy.domain.model.entity.Region;
 
+import java.util.List;
+
 public class PostConverter {
 
     // 글 작성
@@ -93,4 +97,21 @@ public class PostConverter {
                 .build();
     }
 
+    // 득표 현황
+    public static VoteResponseDTO.VoteTallyResponse toVoteTallyResponse(Long voteId, List<PostVoteOption> options) {
+        List<VoteResponseDTO.PostVoteResponse.OptionResponse> optionResponses = options.stream()
+                .map(option -> VoteResponseDTO.PostVoteResponse.OptionResponse.builder()
+                        .optionId(option.getId())
+                        .optionText(option.getOptionText())
+                        .voteCount(option.getVoteCount())
+                        .build())
+                .toList();
+
+        return VoteResponseDTO.VoteTallyResponse.builder()
+                .voteId(voteId)
+                .totalCount(optionResponses.stream().mapToInt(VoteResponseDTO.PostVoteResponse.OptionResponse::getVoteCount).sum())
+                .options(optionResponses)
+                .build();
+    }
+
 }
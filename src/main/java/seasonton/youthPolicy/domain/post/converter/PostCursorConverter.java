@@ -0,0 +1,59 @@
+package seasonton.youthPolicy.domain.post.converter;
+
+import seasonton.youthPolicy.domain.post.exception.PostException;
+import seasonton.youthPolicy.global.error.code.status.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 게시글 커서 페이징용 커서 (직전 페이지 마지막 글의 정렬 키, base64url 로 감싸 클라이언트에는 불투명하게)
+public class PostCursorConverter {
+
+    // 최신순 : "작성일시|id"
+    public static String toLatestCursor(LocalDateTime createdAt, Long id) {
+        return encode(createdAt + "|" + id);
+    }
+
+    public static LatestCursor fromLatestCursor(String cursor) {
+        String[] parts = decode(cursor);
+        try {
+            return new LatestCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new PostException(ErrorStatus.POST_INVALID_CURSOR);
+        }
+    }
+
+    // 좋아요순 : "좋아요수|id"
+    public static String toLikeCursor(Long likeCount, Long id) {
+        return encode(likeCount + "|" + id);
+    }
+
+    public static LikeCursor fromLikeCursor(String cursor) {
+        String[] parts = decode(cursor);
+        try {
+            return new LikeCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new PostException(ErrorStatus.POST_INVALID_CURSOR);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 2) return parts;
+        } catch (IllegalArgumentException ignored) {
+        }
+        throw new PostException(ErrorStatus.POST_INVALID_CURSOR);
+    }
+
+    public record LatestCursor(LocalDateTime createdAt, long id) {
+    }
+
+    public record LikeCursor(long likeCount, long id) {
+    }
+}
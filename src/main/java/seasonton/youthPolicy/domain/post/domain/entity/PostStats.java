@@ -0,0 +1,36 @@
+package seasonton.youthPolicy.domain.post.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 게시글 순위용 집계 (좋아요/댓글 작성·삭제와 같은 트랜잭션에서 증감)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_stats", indexes = {
+        @Index(name = "idx_post_stats_region_like", columnList = "regionId, likeCount, postId"),
+        @Index(name = "idx_post_stats_like", columnList = "likeCount, postId"),
+        @Index(name = "idx_post_stats_region_created", columnList = "regionId, createdAt"),
+        @Index(name = "idx_post_stats_created", columnList = "createdAt")
+})
+public class PostStats {
+
+    @Id
+    private Long postId;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long replyCount;
+
+    @Column(nullable = false)
+    private Long regionId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;    // 게시글 작성일시 (월별 리포트 범위 조회용)
+}
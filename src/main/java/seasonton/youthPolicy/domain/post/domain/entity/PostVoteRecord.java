@@ -6,6 +6,11 @@ import seasonton.youthPolicy.domain.member.domain.entity.User;
 import seasonton.youthPolicy.domain.model.entity.BaseEntity;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_vote_record_user_option", columnNames = {"user_id", "option_id"})
+}, indexes = {
+        @Index(name = "idx_post_vote_record_vote_user", columnList = "vote_id, user_id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
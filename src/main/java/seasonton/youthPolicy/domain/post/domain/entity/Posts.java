@@ -14,6 +14,11 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        // 최신순 커서 페이징 정렬 키 (좋아요순은 PostStats)
+        @Index(name = "idx_posts_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_posts_region_created_at_id", columnList = "region_id, createdAt, id")
+})
 public class Posts extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +23,9 @@ public class Reply extends BaseEntity {
     @Column(length = 50)
     private String writer;
 
+    @Column(nullable = false)
+    private long likeCount;     // 좋아요 수 (ReplyLike 추가/삭제 시 원자적으로 증감)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -6,48 +6,58 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import seasonton.youthPolicy.domain.model.entity.Region;
 import seasonton.youthPolicy.domain.post.domain.entity.Posts;
+import seasonton.youthPolicy.domain.post.dto.PostResponseDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Posts, Long> {
 
+    // 목록 조회는 엔티티 대신 응답 DTO 로 바로 받는다 (글 1건당 추가 쿼리 없음, 좋아요 수는 post_stats)
+    String LIST_ITEM = "seasonton.youthPolicy.domain.post.dto.PostResponseDTO$PostListResponse";
+    String LIKE_ITEM = "seasonton.youthPolicy.domain.post.dto.PostResponseDTO$PostLikeListResponse";
+    String REGION_ITEM = "seasonton.youthPolicy.domain.post.dto.PostResponseDTO$PostRegionListResponse";
+
     @Query("SELECT p FROM Posts p JOIN FETCH p.region r ORDER BY p.createdAt DESC")
     List<Posts> findAllWithRegionOrderByCreatedAtDesc();
 
-    @Query("""
-    select p as post, count(pl.id) as likeCount
-    from Posts p
-    left join PostLike pl on pl.post = p
-    where function('year', p.createdAt) = :year
-      and function('month', p.createdAt) = :month
-      and p.region.id = :regionId
-    group by p
-    order by likeCount desc, p.id desc
-    """)
-    List<Posts> findTopByYearMonthAndRegionOrderByLikeDesc(
-            @Param("year") int year,
-            @Param("month") int month,
+    // 지역별 글 목록 페이징 (목록 응답 필드 + 좋아요 수를 한 번에, COUNT 쿼리 없음)
+    @Query("SELECT new " + REGION_ITEM + "(p.id, p.title, r.RegionName, p.createdAt, s.likeCount) " +
+            "FROM Posts p JOIN p.region r JOIN PostStats s ON s.postId = p.id " +
+            "WHERE r.id = :regionId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponseDTO.PostRegionListResponse> findListByRegionId(@Param("regionId") Long regionId, Pageable pageable);
+
+    // 지역별 글 목록 커서 페이징 ((region_id, createdAt, id) 인덱스 범위 조회)
+    @Query("SELECT new " + REGION_ITEM + "(p.id, p.title, r.RegionName, p.createdAt, s.likeCount) " +
+            "FROM Posts p JOIN p.region r JOIN PostStats s ON s.postId = p.id WHERE r.id = :regionId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponseDTO.PostRegionListResponse> findListByRegionIdAfter(
             @Param("regionId") Long regionId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
             Pageable pageable
     );
 
-    List<Posts> findByRegion(Region region);
-
-    // 게시글 좋아요 개수 기준 정렬
-    @Query("SELECT p FROM Posts p LEFT JOIN p.postLikes pl " +
-            "GROUP BY p " +
-            "ORDER BY COUNT(pl) DESC")
-    List<Posts> findAllOrderByLikeCountDesc();
-
-    // 글 목록 조회
-    @Query("SELECT p FROM Posts p JOIN FETCH p.region r")
-    Page<Posts> findAllWithRegion(Pageable pageable);
-
-
-    // 좋아요 순 조회 페이징
-    @Query("SELECT p FROM Posts p LEFT JOIN p.postLikes pl GROUP BY p ORDER BY COUNT(pl) DESC")
-    Page<Posts> findAllOrderByLikeCountDesc(Pageable pageable);
+    // 글 목록 조회 (목록 응답 필드만, 정렬은 Pageable)
+    @Query(value = "SELECT new " + LIST_ITEM + "(p.id, p.title, r.RegionName, p.createdAt, s.likeCount) " +
+            "FROM Posts p JOIN p.region r JOIN PostStats s ON s.postId = p.id",
+            countQuery = "SELECT COUNT(p) FROM Posts p")
+    Page<PostResponseDTO.PostListResponse> findListItems(Pageable pageable);
+
+
+    // 최신순 커서 페이징 (createdAt, id 내림차순 / COUNT 쿼리 없음)
+    @Query("SELECT new " + LIST_ITEM + "(p.id, p.title, r.RegionName, p.createdAt, s.likeCount) " +
+            "FROM Posts p JOIN p.region r JOIN PostStats s ON s.postId = p.id " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponseDTO.PostListResponse> findLatest(Pageable pageable);
+
+    @Query("SELECT new " + LIST_ITEM + "(p.id, p.title, r.RegionName, p.createdAt, s.likeCount) " +
+            "FROM Posts p JOIN p.region r JOIN PostStats s ON s.postId = p.id " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponseDTO.PostListResponse> findLatestAfter(
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
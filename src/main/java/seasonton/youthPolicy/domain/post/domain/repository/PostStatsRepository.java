@@ -0,0 +1,122 @@
+package seasonton.youthPolicy.domain.post.domain.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.post.domain.entity.PostStats;
+import seasonton.youthPolicy.domain.post.domain.entity.Posts;
+import seasonton.youthPolicy.domain.post.dto.PostResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+
+    String LIKE_ITEM = PostRepository.LIKE_ITEM;
+
+    // 좋아요 순 조회 페이징
+    @Query(value = "SELECT new " + LIKE_ITEM + "(p.id, p.title, p.content, s.likeCount, r.RegionName, p.createdAt) " +
+            "FROM PostStats s JOIN Posts p ON p.id = s.postId JOIN p.region r " +
+            "ORDER BY s.likeCount DESC, s.postId DESC",
+            countQuery = "SELECT COUNT(s) FROM PostStats s")
+    Page<PostResponseDTO.PostLikeListResponse> findLikeListItems(Pageable pageable);
+
+    // 좋아요순 커서 페이징 (likeCount, postId 내림차순 / COUNT 쿼리 없음)
+    @Query("SELECT new " + LIKE_ITEM + "(p.id, p.title, p.content, s.likeCount, r.RegionName, p.createdAt) " +
+            "FROM PostStats s JOIN Posts p ON p.id = s.postId JOIN p.region r " +
+            "ORDER BY s.likeCount DESC, s.postId DESC")
+    List<PostResponseDTO.PostLikeListResponse> findMostLiked(Pageable pageable);
+
+    @Query("SELECT new " + LIKE_ITEM + "(p.id, p.title, p.content, s.likeCount, r.RegionName, p.createdAt) " +
+            "FROM PostStats s JOIN Posts p ON p.id = s.postId JOIN p.region r " +
+            "WHERE s.likeCount < :likeCount OR (s.likeCount = :likeCount AND s.postId < :id) " +
+            "ORDER BY s.likeCount DESC, s.postId DESC")
+    List<PostResponseDTO.PostLikeListResponse> findMostLikedAfter(
+            @Param("likeCount") long likeCount, @Param("id") Long id, Pageable pageable);
+
+    // 기간 내 지역 게시글 좋아요 순 (월별 리포트)
+    @Query("SELECT p FROM PostStats s JOIN Posts p ON p.id = s.postId " +
+            "WHERE s.regionId = :regionId AND s.createdAt >= :from AND s.createdAt < :to " +
+            "ORDER BY s.likeCount DESC, s.postId DESC")
+    List<Posts> findTopByRegionAndCreatedAtBetween(
+            @Param("regionId") Long regionId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // 기간 내 지역별 좋아요 상위 N개 (전체 지역을 한 번에, 월별 리포트 일괄 생성)
+    @Query(value = "SELECT ranked.region_id AS regionId, ranked.post_id AS postId, ranked.title AS title, ranked.content AS content " +
+            "FROM (SELECT s.region_id, s.post_id, p.title, p.content, " +
+            "ROW_NUMBER() OVER (PARTITION BY s.region_id ORDER BY s.like_count DESC, s.post_id DESC) AS rn " +
+            "FROM post_stats s JOIN posts p ON p.id = s.post_id " +
+            "WHERE s.created_at >= :from AND s.created_at < :to) ranked " +
+            "WHERE ranked.rn <= :limit " +
+            "ORDER BY ranked.region_id, ranked.rn", nativeQuery = true)
+    List<TopPostRow> findTopPerRegionBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("limit") int limit
+    );
+
+    interface TopPostRow {
+        Long getRegionId();
+        Long getPostId();
+        String getTitle();
+        String getContent();
+    }
+
+    // 좋아요 / 댓글 수 증감 (행 단위 원자적 UPDATE)
+    @Modifying
+    @Query("UPDATE PostStats s SET s.likeCount = s.likeCount + 1 WHERE s.postId = :postId")
+    int increaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostStats s SET s.likeCount = s.likeCount - 1 WHERE s.postId = :postId AND s.likeCount > 0")
+    int decreaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostStats s SET s.replyCount = s.replyCount + 1 WHERE s.postId = :postId")
+    int increaseReplyCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostStats s SET s.replyCount = s.replyCount - 1 WHERE s.postId = :postId AND s.replyCount > 0")
+    int decreaseReplyCount(@Param("postId") Long postId);
+
+    // 글 수정으로 지역이 바뀐 경우
+    @Modifying
+    @Query("UPDATE PostStats s SET s.regionId = :regionId WHERE s.postId = :postId")
+    int updateRegion(@Param("postId") Long postId, @Param("regionId") Long regionId);
+
+    // post_stats 도입 시 기존 게시글 행 생성 (이미 있는 글은 건너뜀)
+    @Modifying
+    @Query(value = "INSERT INTO post_stats (post_id, like_count, reply_count, region_id, created_at) " +
+            "SELECT p.id, " +
+            "(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id), " +
+            "(SELECT COUNT(*) FROM reply r WHERE r.post_id = p.id), " +
+            "p.region_id, p.created_at FROM posts p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post_stats s WHERE s.post_id = p.id)", nativeQuery = true)
+    int insertMissingStats();
+
+    // 보정 1) 게시글 기준으로 다시 집계 (없는 행은 생성)
+    @Modifying
+    @Query(value = "INSERT INTO post_stats (post_id, like_count, reply_count, region_id, created_at) " +
+            "SELECT p.id, " +
+            "(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id), " +
+            "(SELECT COUNT(*) FROM reply r WHERE r.post_id = p.id), " +
+            "p.region_id, p.created_at FROM posts p " +
+            "ON DUPLICATE KEY UPDATE like_count = VALUES(like_count), reply_count = VALUES(reply_count), " +
+            "region_id = VALUES(region_id), created_at = VALUES(created_at)", nativeQuery = true)
+    int reconcileStats();
+
+    // 보정 2) 삭제된 게시글의 행 제거
+    @Modifying
+    @Query(value = "DELETE FROM post_stats WHERE NOT EXISTS (SELECT 1 FROM posts p WHERE p.id = post_stats.post_id)",
+            nativeQuery = true)
+    int deleteOrphanStats();
+}
@@ -1,9 +1,40 @@
 package seasonton.youthPolicy.domain.post.domain.repository;
 
-import org.checkerframework.common.util.report.qual.ReportCreation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
 import seasonton.youthPolicy.domain.post.domain.entity.PostVoteOption;
 
-@ReportCreation
+import java.util.Collection;
+import java.util.List;
+
+@Repository
 public interface PostVoteOptionRepository extends JpaRepository<PostVoteOption, Long> {
+
+    // 요청한 옵션 중 해당 투표에 속한 옵션 수 (옵션 검증)
+    @Query("SELECT COUNT(o) FROM PostVoteOption o WHERE o.vote.id = :voteId AND o.id IN :optionIds")
+    long countByVoteIdAndIdIn(@Param("voteId") Long voteId, @Param("optionIds") Collection<Long> optionIds);
+
+    // 득표 수 +1 (옵션 여러 개를 한 문장으로, 행 단위 원자적 UPDATE)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostVoteOption o SET o.voteCount = o.voteCount + 1 " +
+            "WHERE o.vote.id = :voteId AND o.id IN :optionIds")
+    int increaseVoteCounts(@Param("voteId") Long voteId, @Param("optionIds") Collection<Long> optionIds);
+
+    // 득표 수 -1
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostVoteOption o SET o.voteCount = o.voteCount - 1 " +
+            "WHERE o.vote.id = :voteId AND o.id IN :optionIds AND o.voteCount > 0")
+    int decreaseVoteCounts(@Param("voteId") Long voteId, @Param("optionIds") Collection<Long> optionIds);
+
+    // 선택 변경: 해제한 옵션 -1, 추가한 옵션 +1 을 한 문장으로 (옵션 행을 id 순으로 잠가 투표자끼리 교착 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostVoteOption o SET o.voteCount = o.voteCount + CASE WHEN o.id IN :removed THEN -1 ELSE 1 END " +
+            "WHERE o.vote.id = :voteId AND o.id IN :optionIds AND (o.id NOT IN :removed OR o.voteCount > 0)")
+    int changeVoteCounts(@Param("voteId") Long voteId, @Param("optionIds") Collection<Long> optionIds,
+                         @Param("removed") Collection<Long> removed);
+
+    List<PostVoteOption> findAllByVoteIdOrderByIdAsc(Long voteId);
 }
@@ -1,11 +1,15 @@
 package seasonton.youthPolicy.domain.post.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import seasonton.youthPolicy.domain.member.domain.entity.User;
 import seasonton.youthPolicy.domain.post.domain.entity.PostVote;
 import seasonton.youthPolicy.domain.post.domain.entity.PostVoteRecord;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,22 @@ import java.util.Optional;
 public interface PostVoteRecordRepository extends JpaRepository<PostVoteRecord, Long> {
     Optional<PostVoteRecord> findByVoteAndUser(PostVote vote, User user);
     List<PostVoteRecord> findAllByVoteAndUser(PostVote vote, User user);
+
+    // 사용자가 해당 투표에서 선택한 옵션 id (호출 전에 사용자 행을 잠가 둔다)
+    @Query("SELECT r.option.id FROM PostVoteRecord r WHERE r.vote.id = :voteId AND r.user.id = :userId")
+    List<Long> findOptionIds(@Param("voteId") Long voteId, @Param("userId") Long userId);
+
+    // 선택 해제한 옵션 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM PostVoteRecord r WHERE r.vote.id = :voteId AND r.user.id = :userId AND r.option.id IN :optionIds")
+    int deleteSelections(@Param("voteId") Long voteId, @Param("userId") Long userId,
+                         @Param("optionIds") Collection<Long> optionIds);
+
+    // 새로 선택한 옵션 기록 일괄 추가 (투표에 속한 옵션만, 중복이면 유니크 키 위반으로 트랜잭션 롤백)
+    @Modifying
+    @Query(value = "INSERT INTO post_vote_record (user_id, option_id, vote_id, created_at, updated_at) " +
+            "SELECT :userId, o.id, o.vote_id, NOW(6), NOW(6) FROM post_vote_option o " +
+            "WHERE o.vote_id = :voteId AND o.id IN (:optionIds)", nativeQuery = true)
+    int insertSelections(@Param("voteId") Long voteId, @Param("userId") Long userId,
+                         @Param("optionIds") Collection<Long> optionIds);
 }
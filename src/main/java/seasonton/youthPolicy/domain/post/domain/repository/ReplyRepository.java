@@ -1,6 +1,7 @@
 package seasonton.youthPolicy.domain.post.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,4 +17,19 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
     List<Reply> findAllByPostIdWithUser(@Param("postId") Long postId);
 
     List<Reply> findAllByPost(Posts post);
+
+    // 좋아요 수 증감 (행 단위 원자적 UPDATE)
+    @Modifying
+    @Query("UPDATE Reply r SET r.likeCount = r.likeCount + 1 WHERE r.id = :replyId")
+    int increaseLikeCount(@Param("replyId") Long replyId);
+
+    @Modifying
+    @Query("UPDATE Reply r SET r.likeCount = r.likeCount - 1 WHERE r.id = :replyId AND r.likeCount > 0")
+    int decreaseLikeCount(@Param("replyId") Long replyId);
+
+    // 좋아요 수 보정 (실제 ReplyLike 개수와 다른 댓글만)
+    @Modifying
+    @Query("UPDATE Reply r SET r.likeCount = (SELECT COUNT(rl) FROM ReplyLike rl WHERE rl.reply = r) " +
+            "WHERE r.likeCount <> (SELECT COUNT(rl) FROM ReplyLike rl WHERE rl.reply = r)")
+    int reconcileLikeCounts();
 }
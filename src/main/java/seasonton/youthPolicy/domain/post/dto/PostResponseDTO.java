@@ -57,6 +57,36 @@ public class PostResponseDTO {
     }
 
 
+    // 글 목록 커서 페이징 (nextCursor 가 null 이면 마지막 페이지)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PostCursorListResponse {
+        private List<PostListResponse> posts;
+        private String nextCursor;
+    }
+
+    // 좋아요 순 커서 페이징
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PostLikeCursorListResponse {
+        private List<PostLikeListResponse> posts;
+        private String nextCursor;
+    }
+
+    // 지역별 게시글 커서 페이징
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PostRegionCursorListResponse {
+        private List<PostRegionListResponse> posts;
+        private String nextCursor;
+    }
+
     // 지역별 게시글 목록 조회
     @Getter
     @Builder
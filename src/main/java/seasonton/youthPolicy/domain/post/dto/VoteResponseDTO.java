@@ -55,4 +55,15 @@ public class VoteResponseDTO {
             private boolean voted;   // 현재 사용자가 선택했는지 여부
         }
     }
+
+    // 실시간 득표 현황 (SSE)
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class VoteTallyResponse {
+        private Long voteId;
+        private int totalCount;
+        private List<PostVoteResponse.OptionResponse> options;
+    }
 }
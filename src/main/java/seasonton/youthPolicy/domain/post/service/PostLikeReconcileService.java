@@ -0,0 +1,45 @@
+package seasonton.youthPolicy.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import seasonton.youthPolicy.domain.post.domain.repository.PostStatsRepository;
+import seasonton.youthPolicy.domain.post.domain.repository.ReplyRepository;
+
+/**
+ * 게시글/댓글 좋아요 수 보정
+ * 토글 시 원자적으로 증감하지만, 직접 삭제 등으로 어긋난 값을 실제 좋아요 행 수로 맞춘다.
+ * 게시글 좋아요 수는 post_stats 한 곳에만 두고, 같은 주기로 게시글/좋아요/댓글 기준으로 다시 맞춘다.
+ * post_stats 행이 없는 게시글(post_stats 도입 전 글)은 보정 때 먼저 행을 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeReconcileService {
+
+    private final ReplyRepository replyRepository;
+    private final PostStatsRepository postStatsRepository;
+
+    @Transactional
+    @Scheduled(initialDelayString = "${like.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${like.reconcile-interval:PT6H}")
+    public void reconcile() {
+        int created = postStatsRepository.insertMissingStats();
+        if (created > 0) {
+            log.info("[LikeReconcile] 게시글 집계 행 생성 {}건", created);
+        }
+
+        int replies = replyRepository.reconcileLikeCounts();
+        if (replies > 0) {
+            log.info("[LikeReconcile] 좋아요 수 보정 - 댓글 {}건", replies);
+        }
+
+        int stats = postStatsRepository.reconcileStats();
+        int orphans = postStatsRepository.deleteOrphanStats();
+        if (stats + orphans > 0) {
+            log.info("[LikeReconcile] 게시글 집계 보정 - 갱신/생성 {}행, 삭제 {}건", stats, orphans);
+        }
+    }
+}
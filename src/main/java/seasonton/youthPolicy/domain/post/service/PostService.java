@@ -3,11 +3,14 @@ package seasonton.youthPolicy.domain.post.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import seasonton.youthPolicy.domain.post.converter.PostConverter;
+import seasonton.youthPolicy.domain.post.converter.PostCursorConverter;
 import seasonton.youthPolicy.domain.post.domain.entity.*;
 import seasonton.youthPolicy.domain.post.domain.repository.*;
 import seasonton.youthPolicy.domain.post.dto.PostRequestDTO;
@@ -17,7 +20,7 @@ import seasonton.youthPolicy.domain.post.dto.VoteResponseDTO;
 import seasonton.youthPolicy.domain.post.exception.PostException;
 import seasonton.youthPolicy.domain.model.entity.Region;
 import seasonton.youthPolicy.domain.member.domain.entity.User;
-import seasonton.youthPolicy.domain.model.repository.RegionRepository;
+import seasonton.youthPolicy.domain.model.service.RegionCache;
 import seasonton.youthPolicy.domain.member.domain.repository.UserRepository;
 import seasonton.youthPolicy.domain.member.exception.UserException;
 import seasonton.youthPolicy.global.dto.S3DTO;
@@ -26,8 +29,11 @@ import seasonton.youthPolicy.global.service.S3Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
@@ -39,12 +45,14 @@ public class PostService {
     private final PostImageRepository postImageRepository;
     private final UserRepository userRepository;
     private final ReplyRepository replyRepository;
-    private final RegionRepository regionRepository;
+    private final RegionCache regionCache;
     private final PostLikeRepository postLikeRepository;
     private final ReplyLikeRepository replyLikeRepository;
     private final PostVoteRepository postVoteRepository;
     private final PostVoteOptionRepository postVoteOptionRepository;
     private final PostVoteRecordRepository postVoteRecordRepository;
+    private final VoteTallyBroadcaster voteTallyBroadcaster;
+    private final PostStatsRepository postStatsRepository;
 
     @Value("${minio.dir.post-image}")
     private String postDIr;
@@ -62,7 +70,7 @@ public class PostService {
                 .orElseThrow(() -> new UserException(ErrorStatus.USER_NOT_FIND));
 
         // 지역 검증
-        Region region = regionRepository.findById(regionId)
+        Region region = regionCache.find(regionId)
                 .orElseThrow(() -> new PostException(ErrorStatus.REGION_NOT_FOUND));
 
         // 게시글 저장
@@ -76,6 +84,11 @@ public class PostService {
                 .build();
 
         postRepository.save(post);
+        postStatsRepository.save(PostStats.builder()
+                .postId(post.getId())
+                .regionId(region.getId())
+                .createdAt(post.getCreatedAt())
+                .build());
 
         // 이미지 저장 (있을 때만)
         if (images != null && !images.isEmpty()) {
@@ -135,6 +148,7 @@ public class PostService {
         vote.updateVote(question, endDate, multipleChoice, newOptions);
 
         postVoteRepository.save(vote);
+        voteTallyBroadcaster.publish(vote.getId());
 
         return PostConverter.toPostUpdateResponse(post);
     }
@@ -170,6 +184,14 @@ public class PostService {
                 .build();
     }
 
+    // 실시간 득표 현황 구독
+    public SseEmitter subscribeVote(Long postId) {
+        VoteResponseDTO.PostVoteResponse snapshot = getVote(postId);
+        if (snapshot == null) {
+            throw new PostException(ErrorStatus.VOTE_NOT_FOUND);
+        }
+        return voteTallyBroadcaster.subscribe(snapshot);
+    }
 
     // 투표 삭제
     @Transactional
@@ -190,12 +212,15 @@ public class PostService {
 
         // 삭제 (옵션은 cascade = ALL, orphanRemoval = true 이므로 자동 삭제)
         postVoteRepository.delete(vote);
+        voteTallyBroadcaster.close(vote.getId());
     }
 
     // 투표하기
     @Transactional
     public VoteResponseDTO.PostVoteResponse vote(Long userId, VoteRequestDTO.VoteRequest request) {
-        User user = userRepository.findById(userId)
+        // 사용자 행을 잠가 같은 사용자의 요청만 순서대로 처리 (기존 선택 조회 → 해제/추가가 겹치지 않도록)
+        // 투표 전체를 잠그지 않으므로 다른 사용자의 투표는 기다리지 않음
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new UserException(ErrorStatus.USER_NOT_FIND));
 
         PostVote vote = postVoteRepository.findById(request.getVoteId())
@@ -211,33 +236,45 @@ public class PostService {
             throw new PostException(ErrorStatus.VOTE_MULTIPLE_NOT_ALLOWED);
         }
 
-        // 기존 투표 기록 조회 & 제거
-        List<PostVoteRecord> existingRecords = postVoteRecordRepository.findAllByVoteAndUser(vote, user);
-        for (PostVoteRecord record : existingRecords) {
-            PostVoteOption oldOption = record.getOption();
-            oldOption.decreaseVoteCount();
-            postVoteOptionRepository.save(oldOption);
-            postVoteRecordRepository.delete(record);
+        // 요청 옵션 중복 제거 + 투표에 속한 옵션인지 확인
+        Set<Long> selected = new LinkedHashSet<>(request.getOptionIds());
+        if (!selected.isEmpty()
+                && postVoteOptionRepository.countByVoteIdAndIdIn(vote.getId(), selected) != selected.size()) {
+            throw new PostException(ErrorStatus.VOTE_OPTION_INVALID);
         }
 
-        // 새 투표 반영
-        List<VoteResponseDTO.PostVoteResponse.OptionResponse> optionResponses = new ArrayList<>();
-
-        for (Long optionId : request.getOptionIds()) {
-            PostVoteOption option = postVoteOptionRepository.findById(optionId)
-                    .orElseThrow(() -> new PostException(ErrorStatus.VOTE_OPTION_INVALID));
-
-            option.increaseVoteCount();
-            postVoteOptionRepository.save(option);
-
-            postVoteRecordRepository.save(
-                    PostVoteRecord.builder()
-                            .user(user)
-                            .vote(vote)
-                            .option(option)
-                            .build()
-            );
+        // 기존 선택과 비교해 해제/추가할 옵션만 계산
+        Set<Long> previous = new HashSet<>(postVoteRecordRepository.findOptionIds(vote.getId(), user.getId()));
+        Set<Long> removed = new HashSet<>(previous);
+        removed.removeAll(selected);
+        Set<Long> added = new LinkedHashSet<>(selected);
+        added.removeAll(previous);
+
+        // 득표 수는 DB 에서 원자적으로 증감 (옵션 수와 관계없이 문장 수 고정)
+        // 해제와 추가가 함께 있으면 한 문장으로 바꿔 옵션 행 잠금 순서를 투표자끼리 맞춤
+        if (!removed.isEmpty()) {
+            postVoteRecordRepository.deleteSelections(vote.getId(), user.getId(), removed);
+        }
+        if (!added.isEmpty()) {
+            postVoteRecordRepository.insertSelections(vote.getId(), user.getId(), added);
+        }
+        if (!removed.isEmpty() && !added.isEmpty()) {
+            Set<Long> changed = new HashSet<>(removed);
+            changed.addAll(added);
+            postVoteOptionRepository.changeVoteCounts(vote.getId(), changed, removed);
+        } else if (!removed.isEmpty()) {
+            postVoteOptionRepository.decreaseVoteCounts(vote.getId(), removed);
+        } else if (!added.isEmpty()) {
+            postVoteOptionRepository.increaseVoteCounts(vote.getId(), added);
+        }
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            voteTallyBroadcaster.publish(vote.getId());
+        }
 
+        // 반영된 득표 수로 응답
+        List<VoteResponseDTO.PostVoteResponse.OptionResponse> optionResponses = new ArrayList<>();
+        for (PostVoteOption option : postVoteOptionRepository.findAllByVoteIdOrderByIdAsc(vote.getId())) {
+            if (!selected.contains(option.getId())) continue;
             optionResponses.add(
                     VoteResponseDTO.PostVoteResponse.OptionResponse.builder()
                             .optionId(option.getId())
@@ -259,50 +296,87 @@ public class PostService {
 
 
 
-    // 글 목록 조회
+    // 글 목록 조회 (응답 필드만 조회하는 쿼리 + COUNT 쿼리)
     public Page<PostResponseDTO.PostListResponse> getPosts(Pageable pageable) {
-        Page<Posts> postsPage = postRepository.findAllWithRegion(pageable);
-
-        return postsPage.map(post -> {
-            Long likeCnt = postLikeRepository.countByPostId(post.getId());
-            return PostConverter.toPostListResponse(post, likeCnt);
-        });
+        return postRepository.findListItems(pageable);
     }
 
     // 게시글 좋아요 순 목록 조회
     public Page<PostResponseDTO.PostLikeListResponse> getPostsOrderByLikeCount(Pageable pageable) {
-        Page<Posts> postsPage = postRepository.findAllOrderByLikeCountDesc(pageable);
-
-        return postsPage.map(post ->
-                PostResponseDTO.PostLikeListResponse.builder()
-                        .id(post.getId())
-                        .title(post.getTitle())
-                        .content(post.getContent())
-                        .regionName(post.getRegion().getRegionName())
-                        .likeCount((long) post.getPostLikes().size())
-                        .createdAt(post.getCreatedAt())
-                        .build()
-        );
+        return postStatsRepository.findLikeListItems(pageable);
     }
 
+    // 게시글 목록 커서 페이징 (최신순, 전체 개수 조회 없음)
+    public PostResponseDTO.PostCursorListResponse getPostsByCursor(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);   // 한 개 더 읽어 다음 페이지 여부 판단
+        List<PostResponseDTO.PostListResponse> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findLatest(limit);
+        } else {
+            PostCursorConverter.LatestCursor after = PostCursorConverter.fromLatestCursor(cursor);
+            posts = postRepository.findLatestAfter(after.createdAt(), after.id(), limit);
+        }
 
-    // 지역 기반 글 목록 조회
-    public List<PostResponseDTO.PostRegionListResponse> getPostsByRegion(Long regionId) {
-        Region region = regionRepository.findById(regionId)
-                .orElseThrow(() -> new PostException(ErrorStatus.REGION_NOT_FOUND));
+        boolean hasNext = posts.size() > size;
+        List<PostResponseDTO.PostListResponse> page = hasNext ? posts.subList(0, size) : posts;
+        PostResponseDTO.PostListResponse last = hasNext ? page.get(page.size() - 1) : null;
+        return PostResponseDTO.PostCursorListResponse.builder()
+                .posts(page)
+                .nextCursor(last == null ? null : PostCursorConverter.toLatestCursor(last.getCreatedAt(), last.getPostId()))
+                .build();
+    }
 
-        return postRepository.findByRegion(region).stream()
-                .map(post -> {
-                    Long likeCnt = postLikeRepository.countByPostId(post.getId());
-                    return PostResponseDTO.PostRegionListResponse.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
-                        .regionName(region.getRegionName())
-                        .createdAt(post.getCreatedAt())
-                        .likeCount(likeCnt)
-                        .build();
-                })
-                .toList();
+    // 게시글 좋아요 순 커서 페이징 (전체 개수 조회 없음)
+    public PostResponseDTO.PostLikeCursorListResponse getPostsOrderByLikeCountByCursor(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostResponseDTO.PostLikeListResponse> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postStatsRepository.findMostLiked(limit);
+        } else {
+            PostCursorConverter.LikeCursor after = PostCursorConverter.fromLikeCursor(cursor);
+            posts = postStatsRepository.findMostLikedAfter(after.likeCount(), after.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > size;
+        List<PostResponseDTO.PostLikeListResponse> page = hasNext ? posts.subList(0, size) : posts;
+        PostResponseDTO.PostLikeListResponse last = hasNext ? page.get(page.size() - 1) : null;
+        return PostResponseDTO.PostLikeCursorListResponse.builder()
+                .posts(page)
+                .nextCursor(last == null ? null : PostCursorConverter.toLikeCursor(last.getLikeCount(), last.getId()))
+                .build();
+    }
+
+
+    // 지역 기반 글 목록 조회 (최신순 페이지)
+    public List<PostResponseDTO.PostRegionListResponse> getPostsByRegion(Long regionId, int pageNum, int pageSize) {
+        if (!regionCache.exists(regionId)) {
+            throw new PostException(ErrorStatus.REGION_NOT_FOUND);
+        }
+        return postRepository.findListByRegionId(regionId, PageRequest.of(pageNum - 1, pageSize));
+    }
+
+    // 지역 기반 글 목록 커서 페이징 (최신순, 전체 개수 조회 없음)
+    public PostResponseDTO.PostRegionCursorListResponse getPostsByRegionByCursor(Long regionId, String cursor, int size) {
+        if (!regionCache.exists(regionId)) {
+            throw new PostException(ErrorStatus.REGION_NOT_FOUND);
+        }
+
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostResponseDTO.PostRegionListResponse> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findListByRegionId(regionId, limit);
+        } else {
+            PostCursorConverter.LatestCursor after = PostCursorConverter.fromLatestCursor(cursor);
+            posts = postRepository.findListByRegionIdAfter(regionId, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > size;
+        List<PostResponseDTO.PostRegionListResponse> page = hasNext ? posts.subList(0, size) : posts;
+        PostResponseDTO.PostRegionListResponse last = hasNext ? page.get(page.size() - 1) : null;
+        return PostResponseDTO.PostRegionCursorListResponse.builder()
+                .posts(page)
+                .nextCursor(last == null ? null : PostCursorConverter.toLatestCursor(last.getCreatedAt(), last.getPostId()))
+                .build();
     }
 
     // 글 상세 조회
@@ -334,6 +408,7 @@ public class PostService {
                 .build();
 
         replyRepository.save(reply);
+        postStatsRepository.increaseReplyCount(postId);
 
         return PostConverter.toReplyCreateResponse(userId, post, reply.getContent());
     }
@@ -343,10 +418,7 @@ public class PostService {
         List<Reply> replies = replyRepository.findAllByPostIdWithUser(postId);
 
         return replies.stream()
-                .map(reply -> {
-                    Long likeCnt = replyLikeRepository.countByReplyId(reply.getId());
-                    return PostConverter.toReplyListResponse(reply, likeCnt);
-                }) // 여기서 컨버터 사용
+                .map(reply -> PostConverter.toReplyListResponse(reply, reply.getLikeCount())) // 여기서 컨버터 사용
                 .toList();
     }
 
@@ -366,10 +438,13 @@ public class PostService {
 
         // 텍스트 수정
         Region region = regionId != null
-                ? regionRepository.findById(regionId)
+                ? regionCache.find(regionId)
                 .orElseThrow(() -> new PostException(ErrorStatus.REGION_NOT_FOUND))
                 : post.getRegion();
 
+        if (!region.getId().equals(post.getRegion().getId())) {
+            postStatsRepository.updateRegion(postId, region.getId());
+        }
         post.updatePost(title, content, isAnonymous, isAnonymous ? "익명" : user.getNickname(), region);
 
         // 이미지 교체 로직
@@ -415,6 +490,7 @@ public class PostService {
         replyRepository.deleteAll(replies);
 
         // 6. 게시글 삭제
+        postStatsRepository.deleteById(postId);
         postRepository.delete(post);
     }
 
@@ -456,6 +532,7 @@ public class PostService {
 
         // 댓글 삭제
         replyRepository.delete(reply);
+        postStatsRepository.decreaseReplyCount(reply.getPost().getId());
     }
 
     // 이미지 업로드 헬퍼 메서드
@@ -495,6 +572,7 @@ public class PostService {
 
         if (existing != null) {
             postLikeRepository.delete(existing);
+            postStatsRepository.decreaseLikeCount(postId);
             return "게시글 좋아요 취소됨";
         } else {
             PostLike like = PostLike.builder()
@@ -502,13 +580,16 @@ public class PostService {
                     .post(post)
                     .build();
             postLikeRepository.save(like);
+            postStatsRepository.increaseLikeCount(postId);
             return "게시글 좋아요 추가됨";
         }
     }
 
-    // 게시글 좋아요 개수 카운트
+    // 게시글 좋아요 개수 카운트 (post_stats 집계)
     public Long getPostLikeCount(Long postId) {
-        return postLikeRepository.countByPostId(postId);
+        return postStatsRepository.findById(postId)
+                .map(PostStats::getLikeCount)
+                .orElse(0L);
     }
 
 
@@ -525,6 +606,7 @@ public class PostService {
 
         if (existing != null) {
             replyLikeRepository.delete(existing);
+            replyRepository.decreaseLikeCount(replyId);
             return "댓글 좋아요 취소됨";
         } else {
             ReplyLike like = ReplyLike.builder()
@@ -532,13 +614,16 @@ public class PostService {
                     .reply(reply)
                     .build();
             replyLikeRepository.save(like);
+            replyRepository.increaseLikeCount(replyId);
             return "댓글 좋아요 추가됨";
         }
     }
 
     // 게시글 댓글 좋아요 카운트
     public Long getReplyLikeCount(Long replyId) {
-        return replyLikeRepository.countByReplyId(replyId);
+        return replyRepository.findById(replyId)
+                .map(Reply::getLikeCount)
+                .orElse(0L);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package seasonton.youthPolicy.domain.post.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import seasonton.youthPolicy.domain.post.converter.PostConverter;
+import seasonton.youthPolicy.domain.post.domain.repository.PostVoteOptionRepository;
+import seasonton.youthPolicy.domain.post.dto.VoteResponseDTO;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 투표별 실시간 득표 현황 SSE 발행
+ * - 투표가 커밋되면 해당 투표에 "변경됨" 표시만 남김
+ * - flush-interval 마다 변경된 투표만 득표 수를 한 번 읽어 구독자 전체에 전송
+ *   → 투표가 몰려도 투표당 전송은 주기당 최대 1회, DB 조회도 구독자 수와 무관하게 1회
+ * - 전송은 전용 스레드에서 (동기화 등 오래 걸리는 @Scheduled 작업이나 느린 구독자가 서로를 막지 않도록)
+ */
+@Slf4j
+@Component
+public class VoteTallyBroadcaster {
+
+    private final PostVoteOptionRepository postVoteOptionRepository;
+    private final long timeoutMillis;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService flusher;
+
+    private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+
+    public VoteTallyBroadcaster(
+            PostVoteOptionRepository postVoteOptionRepository,
+            @Value("${vote.stream.timeout:PT30M}") Duration timeout,
+            @Value("${vote.stream.flush-interval:PT0.5S}") Duration flushInterval
+    ) {
+        this.postVoteOptionRepository = postVoteOptionRepository;
+        this.timeoutMillis = timeout.toMillis();
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vote-tally-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    // 구독 시작 (현재 투표 정보를 첫 이벤트로 전송)
+    public SseEmitter subscribe(VoteResponseDTO.PostVoteResponse snapshot) {
+        Long voteId = snapshot.getVoteId();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> unsubscribe(voteId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(voteId, emitter));
+
+        topics.compute(voteId, (id, topic) -> {
+            Topic target = topic == null ? new Topic() : topic;
+            target.emitters.add(emitter);
+            return target;
+        });
+        send(voteId, emitter, "vote", snapshot);
+        return emitter;
+    }
+
+    // 득표 수 변경 (트랜잭션 안이면 커밋 후에 표시)
+    public void publish(Long voteId) {
+        afterCommit(() -> {
+            Topic topic = topics.get(voteId);
+            if (topic != null) topic.dirty.set(true);
+        });
+    }
+
+    // 투표 삭제 → 구독 종료
+    public void close(Long voteId) {
+        afterCommit(() -> {
+            Topic topic = topics.remove(voteId);
+            if (topic != null) topic.emitters.forEach(SseEmitter::complete);
+        });
+    }
+
+    // 변경된 투표만 묶어서 전송 (flush-interval 마다 전용 스레드에서)
+    public void flush() {
+        topics.forEach((voteId, topic) -> {
+            if (!topic.dirty.compareAndSet(true, false)) return;
+            try {
+                VoteResponseDTO.VoteTallyResponse tally = PostConverter.toVoteTallyResponse(
+                        voteId, postVoteOptionRepository.findAllByVoteIdOrderByIdAsc(voteId));
+                topic.emitters.forEach(emitter -> send(voteId, emitter, "tally", tally));
+            } catch (Exception e) {
+                topic.dirty.set(true);  // 다음 주기에 다시 시도
+                log.warn("[VoteTallyBroadcaster] 득표 현황 조회 실패 voteId={}: {}", voteId, e.getMessage());
+            }
+        });
+    }
+
+    private void send(Long voteId, SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결
+            unsubscribe(voteId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Long voteId, SseEmitter emitter) {
+        topics.computeIfPresent(voteId, (id, topic) -> {
+            topic.emitters.remove(emitter);
+            return topic.emitters.isEmpty() ? null : topic;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Topic {
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+    }
+}
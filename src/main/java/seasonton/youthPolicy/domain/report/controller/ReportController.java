@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import seasonton.youthPolicy.domain.report.dto.ReportRequestDTO;
 import seasonton.youthPolicy.domain.report.dto.ReportResponseDTO;
 import seasonton.youthPolicy.domain.report.exception.ReportException;
+import seasonton.youthPolicy.domain.report.service.ReportJobService;
 import seasonton.youthPolicy.domain.report.service.ReportService;
 import seasonton.youthPolicy.global.auth.UserPrincipal;
 import seasonton.youthPolicy.global.common.response.BaseResponse;
@@ -32,25 +33,66 @@ import java.util.Map;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
 
     // 레포트 생성
     @PostMapping(value = "/new")
     @Operation(
-            summary = "레포트 생성",
-            description = "생성할 \"yyyy-mm\"/지역구를 request body 로 보내주시고, 운영진계정 확인을 위해 Jwt 토큰 인증을 해주세요."
+            summary = "레포트 생성 요청",
+            description = "생성할 \"yyyy-mm\"/지역구를 request body 로 보내주시고, 운영진계정 확인을 위해 Jwt 토큰 인증을 해주세요. " +
+                    "레포트는 백그라운드에서 생성되며, 응답의 jobId 로 /reports/jobs/{job-id} 를 조회해 완료(DONE) 여부와 reportId 를 확인합니다. " +
+                    "같은 년월/지역을 다시 요청하면 기존 작업을 반환합니다."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "OK", description = "레포트 생성 성공"),
-            @ApiResponse(responseCode = "REPORT_4001", description = "이미 존재하는 레포트"),
+            @ApiResponse(responseCode = "OK", description = "레포트 생성 요청 성공"),
+            @ApiResponse(responseCode = "REGION_4001", description = "존재하지 않는 지역"),
             @ApiResponse(responseCode = "REPORT_4002", description = "운영자 계정만 생성가능")
-    }) public BaseResponse<ReportResponseDTO.ReportDetailResponse> reportCreate(
+    }) public BaseResponse<ReportResponseDTO.ReportJobResponse> reportCreate(
             @RequestBody ReportRequestDTO.ReportCreateDTO request,
             @AuthenticationPrincipal UserPrincipal userPrincipal){
 
-        if (!userPrincipal.getAuthorities().stream().anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"))){
-            throw new ReportException(ErrorStatus.REPORT_CREATE_NOAUTH);
-        }
-        ReportResponseDTO.ReportDetailResponse result = reportService.summarizePosts(request);
+        requireAdmin(userPrincipal);
+        ReportResponseDTO.ReportJobResponse result = reportJobService.request(request);
+        return BaseResponse.onSuccess(SuccessStatus.OK, result);
+    }
+
+    @GetMapping(value = "/jobs/{job-id}")
+    @Operation(summary = "레포트 생성 작업 조회", description = "레포트 생성 요청 시 받은 jobId 로 진행 상태(PENDING/RUNNING/DONE/FAILED)를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "OK", description = "작업 조회 성공"),
+            @ApiResponse(responseCode = "REPORT_4004", description = "존재하지 않는 작업")
+    }) public BaseResponse<ReportResponseDTO.ReportJobResponse> reportJob(@PathVariable("job-id") Long jobId){
+        ReportResponseDTO.ReportJobResponse result = reportJobService.getJob(jobId);
+        return BaseResponse.onSuccess(SuccessStatus.OK, result);
+    }
+
+    @PostMapping(value = "/monthly")
+    @Operation(
+            summary = "월별 레포트 일괄 생성",
+            description = "해당 년월(yyyy-MM)에 게시글이 있는 모든 지역의 레포트 생성 작업을 등록합니다. " +
+                    "매월 1일에 지난달 기준으로 자동 실행되며, 이미 완료된 지역은 건너뜁니다. 운영진계정 Jwt 토큰 인증이 필요합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "OK", description = "일괄 생성 작업 등록 성공"),
+            @ApiResponse(responseCode = "REPORT_4002", description = "운영자 계정만 생성가능")
+    }) public BaseResponse<ReportResponseDTO.ReportBatchResponse> reportMonthly(
+            @Parameter(description = "대상 년월 (yyyy-MM)", example = "2025-09")
+            @RequestParam("yearmonth") String yearmonth,
+            @AuthenticationPrincipal UserPrincipal userPrincipal){
+
+        requireAdmin(userPrincipal);
+        ReportResponseDTO.ReportBatchResponse result = reportJobService.enqueueMonth(parseYearMonth(yearmonth));
+        return BaseResponse.onSuccess(SuccessStatus.OK, result);
+    }
+
+    @GetMapping(value = "/jobs")
+    @Operation(summary = "월별 레포트 생성 작업 목록", description = "해당 년월(yyyy-MM)의 지역별 레포트 생성 작업 진행 상태를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "OK", description = "작업 목록 조회 성공")
+    }) public BaseResponse<List<ReportResponseDTO.ReportJobResponse>> reportJobs(
+            @Parameter(description = "대상 년월 (yyyy-MM)", example = "2025-09")
+            @RequestParam("yearmonth") String yearmonth){
+        List<ReportResponseDTO.ReportJobResponse> result = reportJobService.getJobs(parseYearMonth(yearmonth));
         return BaseResponse.onSuccess(SuccessStatus.OK, result);
     }
 
@@ -91,6 +133,20 @@ public class ReportController {
         return BaseResponse.onSuccess(SuccessStatus.OK, result);
     }
 
+    private static void requireAdmin(UserPrincipal userPrincipal) {
+        if (!userPrincipal.getAuthorities().stream().anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"))){
+            throw new ReportException(ErrorStatus.REPORT_CREATE_NOAUTH);
+        }
+    }
+
+    private static YearMonth parseYearMonth(String s) {
+        YearMonth ym = parseYearMonthNullable(s);
+        if (ym == null) {
+            throw new IllegalArgumentException("년월은 yyyy-MM 형식이어야 합니다. 입력값: " + s);
+        }
+        return ym;
+    }
+
     private static YearMonth parseYearMonthNullable(String s) {
         if (s == null || s.isBlank()) return null;
         try {
@@ -8,6 +8,9 @@ import seasonton.youthPolicy.domain.model.entity.Region;
 import java.time.YearMonth;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_yearmonth_region", columnNames = {"yearmonth", "region_id"})
+})
 @Getter
 @Builder
 @AllArgsConstructor
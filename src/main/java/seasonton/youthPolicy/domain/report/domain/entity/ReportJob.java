@@ -0,0 +1,69 @@
+package seasonton.youthPolicy.domain.report.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import seasonton.youthPolicy.domain.model.entity.BaseEntity;
+import seasonton.youthPolicy.domain.model.entity.Region;
+import seasonton.youthPolicy.domain.report.domain.enums.ReportJobStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+// 레포트 생성 작업 (년월/지역당 하나, 같은 요청이 동시에 와도 같은 작업을 돌려줌)
+@Entity
+@Table(name = "report_job", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_job_yearmonth_region", columnNames = {"yearmonth", "region_id"})
+}, indexes = {
+        @Index(name = "idx_report_job_status", columnList = "status, id")
+})
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReportJob extends BaseEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private YearMonth yearmonth;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "region_id", nullable = false)
+    private Region region;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    private Long reportId;              // 완료 시 생성된 레포트
+
+    private int attempts;               // 실행 횟수
+
+    @Column(length = 500)
+    private String errorMessage;        // 마지막 실패 사유
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public void complete(Long reportId, LocalDateTime finishedAt) {
+        this.status = ReportJobStatus.DONE;
+        this.reportId = reportId;
+        this.errorMessage = null;
+        this.finishedAt = finishedAt;
+    }
+
+    public void fail(String errorMessage, LocalDateTime finishedAt) {
+        this.status = ReportJobStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500) : errorMessage;
+        this.finishedAt = finishedAt;
+    }
+
+    // 실패한 작업 다시 요청
+    public void retry() {
+        this.status = ReportJobStatus.PENDING;
+        this.errorMessage = null;
+        this.finishedAt = null;
+    }
+}
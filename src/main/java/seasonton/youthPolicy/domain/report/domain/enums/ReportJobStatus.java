@@ -0,0 +1,15 @@
+package seasonton.youthPolicy.domain.report.domain.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReportJobStatus {
+    PENDING("대기"),
+    RUNNING("생성중"),
+    DONE("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
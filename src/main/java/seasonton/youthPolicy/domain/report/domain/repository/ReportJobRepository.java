@@ -0,0 +1,44 @@
+package seasonton.youthPolicy.domain.report.domain.repository;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import seasonton.youthPolicy.domain.report.domain.entity.ReportJob;
+import seasonton.youthPolicy.domain.report.domain.enums.ReportJobStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    @EntityGraph(attributePaths = "region")
+    Optional<ReportJob> findWithRegionById(Long id);
+
+    Optional<ReportJob> findByYearmonthAndRegionId(YearMonth yearmonth, Long regionId);
+
+    @EntityGraph(attributePaths = "region")
+    List<ReportJob> findByYearmonthOrderByIdAsc(YearMonth yearmonth);
+
+    // 대기 중인 작업 id (오래된 순)
+    @Query("SELECT j.id FROM ReportJob j WHERE j.status = :status ORDER BY j.id")
+    List<Long> findIdsByStatus(@Param("status") ReportJobStatus status);
+
+    // 실행 선점 (PENDING → RUNNING, 한 워커만 성공)
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = :running, j.attempts = j.attempts + 1, j.startedAt = :now " +
+            "WHERE j.id = :id AND j.status = :pending")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now,
+              @Param("pending") ReportJobStatus pending, @Param("running") ReportJobStatus running);
+
+    // 서버 재시작 등으로 멈춘 RUNNING 작업을 다시 대기 상태로
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = :pending WHERE j.status = :running AND j.startedAt < :before")
+    int requeueStale(@Param("before") LocalDateTime before,
+                     @Param("pending") ReportJobStatus pending, @Param("running") ReportJobStatus running);
+}
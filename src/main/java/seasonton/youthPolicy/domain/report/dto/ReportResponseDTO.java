@@ -3,6 +3,7 @@ package seasonton.youthPolicy.domain.report.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import seasonton.youthPolicy.domain.report.domain.enums.ReportJobStatus;
 
 import java.time.LocalDateTime;
 
@@ -35,4 +36,38 @@ public class ReportResponseDTO {
         private String regionName;
     }
 
+    // 레포트 생성 작업 상태
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ReportJobResponse {
+        private Long jobId;
+        private int year;
+        private int month;
+        private Long regionId;
+        private String regionName;
+        private ReportJobStatus status;     // PENDING / RUNNING / DONE / FAILED
+        private Long reportId;              // DONE 이면 생성된 레포트 id
+        private int attempts;
+        private String errorMessage;
+        private LocalDateTime createdAt;
+        private LocalDateTime finishedAt;
+    }
+
+    // 월별 레포트 일괄 생성 결과
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ReportBatchResponse {
+        private int year;
+        private int month;
+        private int regionCount;            // 해당 월 게시글이 있는 지역 수
+        private int enqueuedCount;          // 이번에 생성 작업을 등록한 지역 수
+        private int doneCount;              // 이미 레포트가 있는 지역 수
+    }
+
 }
@@ -0,0 +1,242 @@
+package seasonton.youthPolicy.domain.report.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import seasonton.youthPolicy.domain.model.entity.Region;
+import seasonton.youthPolicy.domain.model.service.RegionCache;
+import seasonton.youthPolicy.domain.report.domain.entity.ReportJob;
+import seasonton.youthPolicy.domain.report.domain.enums.ReportJobStatus;
+import seasonton.youthPolicy.domain.report.domain.repository.ReportJobRepository;
+import seasonton.youthPolicy.domain.report.dto.ReportRequestDTO;
+import seasonton.youthPolicy.domain.report.dto.ReportResponseDTO;
+import seasonton.youthPolicy.domain.report.exception.ReportException;
+import seasonton.youthPolicy.global.error.code.status.ErrorStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * 레포트 생성 작업 큐
+ * - 생성 요청은 작업(report_job)만 만들고 바로 작업 id 를 반환, 같은 년월/지역 요청은 같은 작업을 돌려줌
+ * - worker-threads 개의 워커가 작업을 선점(PENDING → RUNNING)해서 실행, LLM 호출은 트랜잭션 밖에서
+ * - 큐가 가득 차서 못 넣은 작업이나 재시작으로 멈춘 작업은 주기적으로 다시 넣음
+ * - 매월 초 지난달 게시글이 있는 전체 지역의 작업을 한 번에 등록 (진행 상황은 작업 테이블에 남아 재시작 후 이어서 진행)
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportService reportService;
+    private final RegionCache regionCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration jobTimeout;
+
+    private final ThreadPoolExecutor worker;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Map<Long, List<ReportService.PostDigest>> prefetched = new ConcurrentHashMap<>();  // 일괄 등록 시 미리 조회한 게시글
+
+    public ReportJobService(
+            ReportJobRepository reportJobRepository,
+            ReportService reportService,
+            RegionCache regionCache,
+            TransactionTemplate transactionTemplate,
+            @Value("${report.worker-threads:2}") int workerThreads,
+            @Value("${report.queue-capacity:50}") int queueCapacity,
+            @Value("${report.job-timeout:PT5M}") Duration jobTimeout
+    ) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportService = reportService;
+        this.regionCache = regionCache;
+        this.transactionTemplate = transactionTemplate;
+        this.jobTimeout = jobTimeout;
+        this.worker = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // 레포트 생성 요청 (이미 있는 작업이면 그대로, 실패한 작업이면 다시 실행)
+    public ReportResponseDTO.ReportJobResponse request(ReportRequestDTO.ReportCreateDTO request) {
+        YearMonth ym = request.getYearmonth();
+        if (ym == null) {
+            throw new IllegalArgumentException("yearmonth 는 필수입니다. (yyyy-MM)");
+        }
+        Region region = regionCache.find(request.getRegionId())
+                .orElseThrow(() -> new ReportException(ErrorStatus.REGION_NOT_FOUND));
+
+        ReportJob job = findOrCreate(ym, region);
+        if (job.getStatus() == ReportJobStatus.FAILED) {
+            job = retry(job.getId());
+        }
+        if (job.getStatus() == ReportJobStatus.PENDING) {
+            submit(job.getId());
+        }
+        return toJobResponse(job, region);
+    }
+
+    // 작업 상태 조회
+    public ReportResponseDTO.ReportJobResponse getJob(Long jobId) {
+        ReportJob job = reportJobRepository.findWithRegionById(jobId)
+                .orElseThrow(() -> new ReportException(ErrorStatus.REPORT_JOB_NOT_FOUND));
+        return toJobResponse(job, job.getRegion());
+    }
+
+    // 월별 작업 목록 (일괄 생성 진행 상황)
+    public List<ReportResponseDTO.ReportJobResponse> getJobs(YearMonth ym) {
+        return reportJobRepository.findByYearmonthOrderByIdAsc(ym).stream()
+                .map(job -> toJobResponse(job, job.getRegion()))
+                .toList();
+    }
+
+    // 매월 초 지난달 레포트 일괄 생성
+    @Scheduled(cron = "${report.monthly-cron:0 10 0 1 * *}")
+    public void generateLastMonth() {
+        enqueueMonth(YearMonth.now().minusMonths(1));
+    }
+
+    /**
+     * 해당 월 게시글이 있는 전체 지역의 레포트 작업 등록
+     * - 지역별 좋아요 상위 5개를 윈도 함수 쿼리 한 번으로 조회해 작업에 넘김
+     * - 이미 완료된 지역은 건너뛰고, 실패한 지역은 다시 실행
+     * - LLM 호출 속도는 ReportService 의 분당 호출 제한을 따름
+     */
+    public ReportResponseDTO.ReportBatchResponse enqueueMonth(YearMonth ym) {
+        Map<Long, List<ReportService.PostDigest>> topPosts =
+                reportService.findTopPostsByRegion(ym, ReportService.REPORT_POST_COUNT);
+
+        int enqueued = 0;
+        int done = 0;
+        for (Map.Entry<Long, List<ReportService.PostDigest>> entry : topPosts.entrySet()) {
+            Region region = regionCache.find(entry.getKey()).orElse(null);
+            if (region == null) continue;
+
+            ReportJob job = findOrCreate(ym, region);
+            if (job.getStatus() == ReportJobStatus.FAILED) {
+                job = retry(job.getId());
+            }
+            if (job.getStatus() == ReportJobStatus.DONE) {
+                done++;
+            } else if (job.getStatus() == ReportJobStatus.PENDING) {
+                prefetched.put(job.getId(), entry.getValue());
+                submit(job.getId());
+                enqueued++;
+            }
+        }
+        log.info("[ReportJob] {} 일괄 생성 - 대상 지역 {}곳, 등록 {}건, 이미 완료 {}건", ym, topPosts.size(), enqueued, done);
+
+        return ReportResponseDTO.ReportBatchResponse.builder()
+                .year(ym.getYear())
+                .month(ym.getMonthValue())
+                .regionCount(topPosts.size())
+                .enqueuedCount(enqueued)
+                .doneCount(done)
+                .build();
+    }
+
+    // 대기 작업 다시 넣기 + 오래 멈춘 RUNNING 작업 복구
+    @Scheduled(initialDelayString = "${report.job-sweep-interval:PT1M}",
+            fixedDelayString = "${report.job-sweep-interval:PT1M}")
+    public void sweep() {
+        Integer requeued = transactionTemplate.execute(status -> reportJobRepository.requeueStale(
+                LocalDateTime.now().minus(jobTimeout), ReportJobStatus.PENDING, ReportJobStatus.RUNNING));
+        if (requeued != null && requeued > 0) {
+            log.warn("[ReportJob] 멈춘 작업 {}건 다시 대기", requeued);
+        }
+        reportJobRepository.findIdsByStatus(ReportJobStatus.PENDING).forEach(this::submit);
+    }
+
+    private ReportJob retry(Long jobId) {
+        return transactionTemplate.execute(status -> {
+            ReportJob failed = reportJobRepository.findById(jobId)
+                    .orElseThrow(() -> new ReportException(ErrorStatus.REPORT_JOB_NOT_FOUND));
+            failed.retry();
+            return failed;
+        });
+    }
+
+    private ReportJob findOrCreate(YearMonth ym, Region region) {
+        return reportJobRepository.findByYearmonthAndRegionId(ym, region.getId())
+                .orElseGet(() -> {
+                    try {
+                        return transactionTemplate.execute(status -> reportJobRepository.saveAndFlush(ReportJob.builder()
+                                .yearmonth(ym)
+                                .region(region)
+                                .status(ReportJobStatus.PENDING)
+                                .build()));
+                    } catch (DataIntegrityViolationException e) {
+                        // 같은 요청이 동시에 들어와 먼저 만들어짐 (unique 제약)
+                        return reportJobRepository.findByYearmonthAndRegionId(ym, region.getId())
+                                .orElseThrow(() -> e);
+                    }
+                });
+    }
+
+    private void submit(Long jobId) {
+        if (!queued.add(jobId)) return;
+        try {
+            worker.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    queued.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참 → PENDING 으로 남겨 두고 다음 sweep 때 다시 넣음
+            queued.remove(jobId);
+            log.debug("[ReportJob] 작업 큐 가득 참 - jobId={} 대기", jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        List<ReportService.PostDigest> posts = prefetched.remove(jobId);  // 재시작 후에는 없음 → 지역별 조회
+        Boolean claimed = transactionTemplate.execute(status -> reportJobRepository.claim(
+                jobId, LocalDateTime.now(), ReportJobStatus.PENDING, ReportJobStatus.RUNNING) == 1);
+        if (!Boolean.TRUE.equals(claimed)) return;  // 다른 워커가 실행 중이거나 이미 끝남
+
+        ReportJob job = reportJobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+
+        try {
+            Long reportId = reportService.generateReport(job.getYearmonth(), job.getRegion().getId(), posts);
+            transactionTemplate.executeWithoutResult(status -> reportJobRepository.findById(jobId)
+                    .ifPresent(running -> running.complete(reportId, LocalDateTime.now())));
+            log.info("[ReportJob] jobId={} {} regionId={} 완료 (reportId={})",
+                    jobId, job.getYearmonth(), job.getRegion().getId(), reportId);
+        } catch (Exception e) {
+            log.warn("[ReportJob] jobId={} 실패: {}", jobId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> reportJobRepository.findById(jobId)
+                    .ifPresent(running -> running.fail(e.getMessage(), LocalDateTime.now())));
+        }
+    }
+
+    private static ReportResponseDTO.ReportJobResponse toJobResponse(ReportJob job, Region region) {
+        return ReportResponseDTO.ReportJobResponse.builder()
+                .jobId(job.getId())
+                .year(job.getYearmonth().getYear())
+                .month(job.getYearmonth().getMonthValue())
+                .regionId(region.getId())
+                .regionName(region.getRegionName())
+                .status(job.getStatus())
+                .reportId(job.getReportId())
+                .attempts(job.getAttempts())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -1,27 +1,29 @@
 package seasonton.youthPolicy.domain.report.service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import seasonton.youthPolicy.domain.model.entity.Region;
 import seasonton.youthPolicy.domain.model.repository.RegionRepository;
 import seasonton.youthPolicy.domain.post.converter.PostConverter;
-import seasonton.youthPolicy.domain.post.domain.entity.Posts;
-import seasonton.youthPolicy.domain.post.domain.repository.PostRepository;
+import seasonton.youthPolicy.domain.post.domain.repository.PostStatsRepository;
 import seasonton.youthPolicy.domain.post.dto.PostResponseDTO;
 import seasonton.youthPolicy.domain.post.exception.PostException;
 import seasonton.youthPolicy.domain.report.domain.entity.Report;
 import seasonton.youthPolicy.domain.report.domain.repository.ReportRepository;
-import seasonton.youthPolicy.domain.report.dto.ReportRequestDTO;
 import seasonton.youthPolicy.domain.report.dto.ReportResponseDTO;
-import seasonton.youthPolicy.domain.report.exception.ReportException;
 import seasonton.youthPolicy.global.error.code.status.ErrorStatus;
 import seasonton.youthPolicy.global.infra.PerplexityClient;
+import seasonton.youthPolicy.global.infra.RateLimiter;
 
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.LinkedHashMap;
@@ -31,57 +33,98 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReportService {
 
-    private final PostRepository postRepository;
+    private final PostStatsRepository postStatsRepository;
     private final PerplexityClient perplexityClient;
     private final RegionRepository regionRepository;
     private final ReportRepository reportRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public ReportResponseDTO.ReportDetailResponse summarizePosts(ReportRequestDTO.ReportCreateDTO reportCreate){
+    public static final int REPORT_POST_COUNT = 5;
 
-        YearMonth ym = reportCreate.getYearmonth();
-        int year = ym.getYear();
-        int month = ym.getMonthValue();
-        Long regionId = reportCreate.getRegionId();
+    @Value("${report.llm-calls-per-minute:20}")
+    private int llmCallsPerMinute;
+
+    private RateLimiter llmRateLimiter;
+
+    @PostConstruct
+    public void init() {
+        this.llmRateLimiter = new RateLimiter(llmCallsPerMinute);
+    }
+
+    // 년월/지역 레포트 생성 (LLM 호출은 트랜잭션 밖에서, 이미 있으면 기존 레포트 id)
+    public Long generateReport(YearMonth ym, Long regionId) {
+        return generateReport(ym, regionId, null);
+    }
+
+    // posts 를 미리 조회해 넘기면(일괄 생성) 지역별 조회 생략
+    public Long generateReport(YearMonth ym, Long regionId, List<PostDigest> posts) {
         Region region = regionRepository.getReferenceById(regionId);
+        Report existing = reportRepository.findByYearmonthAndRegion(ym, region);
+        if (existing != null) {
+            return existing.getId();
+        }
+
+        // 게시글 집계 테이블에서 해당 월/지역 좋아요 상위 5개
+        List<PostDigest> postTop5 = posts != null ? posts
+                : postStatsRepository.findTopByRegionAndCreatedAtBetween(
+                        regionId, ym.atDay(1).atStartOfDay(), ym.plusMonths(1).atDay(1).atStartOfDay(),
+                        PageRequest.of(0, REPORT_POST_COUNT))
+                .stream()
+                .map(post -> new PostDigest(post.getTitle(), post.getContent()))
+                .toList();
+
+        // 요약 생성 (레포트 LLM 호출 전체를 분당 llmCallsPerMinute 회로 제한)
+        awaitLlmSlot();
+        var finalRes = perplexityClient.summarize(toPrompt(postTop5), 1);
+        String finalSummary = finalRes.getChoices()[0].getMessage().getContent();
+
+        try {
+            return transactionTemplate.execute(status -> reportRepository.save(Report.builder()
+                    .content(finalSummary)
+                    .yearmonth(ym)
+                    .region(regionRepository.getReferenceById(regionId))
+                    .build()).getId());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 년월/지역 레포트가 먼저 저장됨 (unique 제약)
+            return reportRepository.findByYearmonthAndRegion(ym, region).getId();
+        }
+    }
 
-        if (reportRepository.findByYearmonthAndRegion(ym, region) != null) {
-            throw new ReportException(ErrorStatus.REPORT_ALREADY_EXIST);
+    // 기간 내 전체 지역 좋아요 상위 N개를 한 번에 (지역 id → 게시글, 좋아요순)
+    public Map<Long, List<PostDigest>> findTopPostsByRegion(YearMonth ym, int limit) {
+        Map<Long, List<PostDigest>> byRegion = new LinkedHashMap<>();
+        for (PostStatsRepository.TopPostRow row : postStatsRepository.findTopPerRegionBetween(
+                ym.atDay(1).atStartOfDay(), ym.plusMonths(1).atDay(1).atStartOfDay(), limit)) {
+            byRegion.computeIfAbsent(row.getRegionId(), k -> new ArrayList<>())
+                    .add(new PostDigest(row.getTitle(), row.getContent()));
         }
+        return byRegion;
+    }
 
-        List<Posts> postTop5 = postRepository.findTopByYearMonthAndRegionOrderByLikeDesc(
-                year, month, regionId, PageRequest.of(0, 5));
+    private void awaitLlmSlot() {
+        try {
+            llmRateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("레포트 생성 대기 중 중단되었습니다.", e);
+        }
+    }
 
+    private static String toPrompt(List<PostDigest> posts) {
         int i = 0;
         StringBuilder sb = new StringBuilder();
         sb.append("아래는 5개의 게시글입니다. 각 게시글은 제목과 본문으로 구성됩니다.\n---\n");
-        for (Posts eachPost : postTop5) {
+        for (PostDigest eachPost : posts) {
             i++;
-            String title = eachPost.getTitle();
-            String content = eachPost.getContent();
+            String title = eachPost.title();
+            String content = eachPost.content();
             sb.append("[Post ").append(i).append("]\n");
             sb.append("Title: ").append(title).append("\n");
             sb.append("Body: ").append(content).append("\n");
             sb.append("---\n");
         }
         sb.append("요구사항: 위 게시글만 근거로 여론을 요약하고, 개선방향을 제시하세요. 출처 표기나 외부 검색은 금지합니다.");
-
-        // 요약 생성
-        var finalRes = perplexityClient.summarize(sb.toString(), 1);
-        String finalSummary = finalRes.getChoices()[0].getMessage().getContent();
-
-        Report generatedReport = Report.builder()
-                .content(finalSummary)
-                .yearmonth(ym)
-                .region(region)
-                .build();
-
-        reportRepository.save(generatedReport);
-
-        return ReportResponseDTO.ReportDetailResponse.builder()
-                .year(year).month(month).createdAt(generatedReport.getCreatedAt())
-                .regionId(regionId).regionName(region.getRegionName())
-                .content(finalSummary).build();
+        return sb.toString();
     }
 
     // 글 상세 조회
@@ -115,6 +158,10 @@ public class ReportService {
                 ));
     }
 
+    // 레포트 프롬프트에 넣는 게시글 (제목, 본문)
+    public record PostDigest(String title, String content) {
+    }
+
     private ReportResponseDTO.ReportListResponse toEachSimple(Report r) {
         return ReportResponseDTO.ReportListResponse.builder()
                 .reportId(r.getId())
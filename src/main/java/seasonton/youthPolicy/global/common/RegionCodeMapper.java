@@ -4,42 +4,117 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.InputStream;
+import java.util.Arrays;
 
+/**
+ * 법정동 시군구 코드(앞 5자리) 조회
+ * 빌드 시 compileRegionCodes 가 CSV 를 정렬된 이진 테이블로 만들어 두고,
+ * 기동 시에는 그 파일을 한 번에 읽어 코드 배열 / 이름 / 시도 배열만 구성한다.
+ * - 조회는 int 코드 이진 탐색
+ * - 코드 → 시/도는 적재 시 한 번 계산해 둔 값을 바로 사용
+ */
 @Component
 public class RegionCodeMapper {
-    private final Map<String, String> regionMap = new HashMap<>();
+
+    private static final String TABLE = "region-codes.bin";
+    private static final int MAGIC = 0x52474E31;    // "RGN1"
+
+    private int[] codes = new int[0];               // 오름차순
+    private String[] names = new String[0];         // codes 와 같은 위치 (중복 이름은 같은 인스턴스)
+    private Sido[] sidos = new Sido[0];             // codes 와 같은 위치 (없으면 null)
 
     @PostConstruct
     public void loadRegionCodes() throws IOException {
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(
-                        new ClassPathResource("국토교통부_법정동코드_20250805.csv").getInputStream(),
-                        Charset.forName("EUC-KR")))) {
-
-            reader.lines().skip(1).forEach(line -> {
-                String[] parts = line.split(",");
-                if (parts.length >= 3 && !"폐지".equals(parts[2].trim()) && !"1".equals(parts[2].trim())) {
-                    String code = parts[0].trim();
-                    if (code.length() >= 5) {
-                        code = code.substring(0, 5); // 앞 5자리만 사용
-                    }
-                    String name = parts[1].trim();
-                    regionMap.put(code, name);
-                }
-            });
+        byte[] bytes;
+        try (InputStream in = new ClassPathResource(TABLE).getInputStream()) {
+            bytes = in.readAllBytes();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("지역 코드 테이블 형식이 올바르지 않습니다: " + TABLE);
+            }
+
+            String[] pool = new String[in.readInt()];
+            for (int i = 0; i < pool.length; i++) {
+                pool[i] = in.readUTF();
+            }
+
+            int count = in.readInt();
+            int[] loadedCodes = new int[count];
+            String[] loadedNames = new String[count];
+            Sido[] loadedSidos = new Sido[count];
+            for (int i = 0; i < count; i++) {
+                loadedCodes[i] = in.readInt();
+                loadedNames[i] = pool[in.readUnsignedShort()];
+                loadedSidos[i] = Sido.fromRegionName(loadedNames[i]);
+            }
+
+            this.codes = loadedCodes;
+            this.names = loadedNames;
+            this.sidos = loadedSidos;
         }
     }
 
+    // 시군구 이름, 없는 코드면 null
+    public String getRegionName(int code) {
+        int i = Arrays.binarySearch(codes, code);
+        return i < 0 ? null : names[i];
+    }
+
+    // 시군구 코드의 시/도, 없는 코드면 null
+    public Sido getSido(int code) {
+        int i = Arrays.binarySearch(codes, code);
+        return i < 0 ? null : sidos[i];
+    }
+
     public String getRegionName(String code) {
-        return regionMap.getOrDefault(code, code);
+        int parsed = parseCode(code, 0, code == null ? 0 : code.length());
+        String name = parsed < 0 ? null : getRegionName(parsed);
+        return name == null ? code : name;
     }
-}
 
+    /**
+     * 콤마로 구분된 zipCd 목록을 시/도 비트마스크로 변환
+     * 예) "11110,11140,41130" → 서울 | 경기
+     */
+    public int toRegionMask(String zipCodes) {
+        int mask = 0;
+        if (zipCodes == null || zipCodes.isBlank()) return mask;
+
+        int start = 0;
+        while (start <= zipCodes.length()) {
+            int end = zipCodes.indexOf(',', start);
+            if (end < 0) end = zipCodes.length();
 
+            int code = parseCode(zipCodes, start, end);
+            Sido sido = code < 0 ? null : getSido(code);
+            if (sido != null) {
+                mask |= sido.bit();
+            }
+            start = end + 1;
+        }
+        return mask;
+    }
+
+    // [from, to) 구간의 숫자 앞 5자리 (공백 무시), 숫자가 아니면 -1
+    private static int parseCode(String text, int from, int to) {
+        int code = 0;
+        int digits = 0;
+        for (int i = from; i < to && digits < 5; i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                if (digits == 0) continue;
+                break;
+            }
+            if (ch < '0' || ch > '9') return -1;
+            code = code * 10 + (ch - '0');
+            digits++;
+        }
+        return digits == 5 ? code : -1;
+    }
+}
@@ -0,0 +1,98 @@
+package seasonton.youthPolicy.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 17개 시/도
+ * 정책의 지역은 ordinal 비트를 모은 int 비트마스크로 저장하고,
+ * 응답용 지역명 집합은 마스크별로 한 번만 만들어 공유한다.
+ */
+@Getter
+@AllArgsConstructor
+public enum Sido {
+    서울("서울특별시", null),
+    부산("부산광역시", null),
+    대구("대구광역시", null),
+    인천("인천광역시", null),
+    광주("광주광역시", null),
+    대전("대전광역시", null),
+    울산("울산광역시", null),
+    세종("세종특별자치시", null),
+    경기("경기도", null),
+    강원("강원특별자치도", "강원도"),
+    충북("충청북도", null),
+    충남("충청남도", null),
+    전북("전북특별자치도", "전라북도"),
+    전남("전라남도", null),
+    경북("경상북도", null),
+    경남("경상남도", null),
+    제주("제주특별자치도", null);
+
+    private final String regionName;
+    private final String formerName;    // 개편 전 명칭 (법정동 코드표에 남아있는 경우)
+
+    private static final Sido[] VALUES = values();
+
+    // 17개 시/도 전체 (= "전국")
+    public static final int ALL_MASK = (1 << VALUES.length) - 1;
+
+    private static final Set<String> NATIONWIDE = Set.of("전국");
+    private static final Map<Integer, Set<String>> NAMES_BY_MASK = new ConcurrentHashMap<>();
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    // 전체 지역명("서울특별시 강남구")의 시/도, 없으면 null
+    public static Sido fromRegionName(String fullRegionName) {
+        if (fullRegionName == null) return null;
+        for (Sido sido : VALUES) {
+            if (fullRegionName.startsWith(sido.regionName)
+                    || (sido.formerName != null && fullRegionName.startsWith(sido.formerName))) {
+                return sido;
+            }
+        }
+        return null;
+    }
+
+    // 요청 지역 문자열이 포함된 시/도 비트 ("서울" → 서울특별시)
+    public static int maskMatching(Collection<String> keywords) {
+        int mask = 0;
+        if (keywords == null) return mask;
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) continue;
+            String trimmed = keyword.trim();
+            for (Sido sido : VALUES) {
+                if (sido.regionName.contains(trimmed)
+                        || (sido.formerName != null && sido.formerName.contains(trimmed))) {
+                    mask |= sido.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static boolean isNationwide(int mask) {
+        return (mask & ALL_MASK) == ALL_MASK;
+    }
+
+    // 마스크의 시/도 이름 (불변, 마스크별로 공유)
+    public static Set<String> namesOf(int mask) {
+        return NAMES_BY_MASK.computeIfAbsent(mask & ALL_MASK, m -> {
+            List<String> names = new ArrayList<>(Integer.bitCount(m));
+            for (Sido sido : VALUES) {
+                if ((m & sido.bit()) != 0) names.add(sido.regionName);
+            }
+            return Collections.unmodifiableSet(new LinkedHashSet<>(names));
+        });
+    }
+
+    // 응답 표시용: 17개 전부면 "전국"
+    public static Set<String> displayNamesOf(int mask) {
+        return isNationwide(mask) ? NATIONWIDE : namesOf(mask);
+    }
+}
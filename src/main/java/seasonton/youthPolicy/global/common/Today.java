@@ -0,0 +1,35 @@
+package seasonton.youthPolicy.global.common;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 오늘 날짜(epoch day) 캐시
+ * 매 호출마다 LocalDate.now() 를 만들지 않고, 자정이 지난 첫 호출에서만 다시 계산한다.
+ */
+public final class Today {
+
+    private static volatile Day current = compute();
+
+    private Today() {
+    }
+
+    public static int epochDay() {
+        Day day = current;
+        if (System.currentTimeMillis() >= day.nextMidnightMillis()) {
+            day = compute();
+            current = day;
+        }
+        return day.epochDay();
+    }
+
+    private static Day compute() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        long nextMidnight = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Day((int) today.toEpochDay(), nextMidnight);
+    }
+
+    private record Day(int epochDay, long nextMidnightMillis) {
+    }
+}
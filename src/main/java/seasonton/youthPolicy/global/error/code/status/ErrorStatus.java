@@ -28,6 +28,7 @@ public enum ErrorStatus {
     POST_IMAGE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "POST_4001", "이미지는 최대 3개까지만 업로드 가능합니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "POST_4002", "존재하지 않는 게시글입니다."),
     POST_FORBIDDEN(HttpStatus.FORBIDDEN, "POST_4003", "해당 게시글에 대한 권한이 없습니다."),
+    POST_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "POST_4004", "잘못된 페이지 커서입니다."),
     REPLY_NOT_FOUND(HttpStatus.NOT_FOUND, "REPLY_4001", "존재하지 않는 댓글입니다."),
     REPLY_FORBIDDEN(HttpStatus.FORBIDDEN, "REPLY_4002", "해당 댓글에 대한 권한이 없습니다."),
     VOTE_NOT_FOUND(HttpStatus.NOT_FOUND, "VOTE_4001", "존재하지 않는 투표입니다."),
@@ -43,6 +44,7 @@ public enum ErrorStatus {
     POLICY_FORBIDDEN(HttpStatus.FORBIDDEN, "POLICY_4002", "해당 정책에 대한 권한이 없습니다."),
     POLICY_INVALID_REQUEST(HttpStatus.BAD_REQUEST, "POLICY_4003", "잘못된 정책 요청입니다."),
     POLICY_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "POLICY_4004", "정책 API 호출 중 오류가 발생했습니다."),
+    POLICY_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "POLICY_4005", "정책 API 가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
     REPLY_FILTERED(HttpStatus.BAD_REQUEST, "REPLY_4001", "이상 댓글(욕설/스팸 등)로 차단되었습니다."),
     POLICY_REPLY_NOT_FOUND(HttpStatus.NOT_FOUND, "REPLY_4001", "존재하지 않는 정책 댓글입니다."),
 
@@ -50,7 +52,8 @@ public enum ErrorStatus {
     // report
     REPORT_ALREADY_EXIST(HttpStatus.BAD_REQUEST, "REPORT_4001", "이미 해당 년/월/지역구 에 레포트가 존재합니다."),
     REPORT_CREATE_NOAUTH(HttpStatus.UNAUTHORIZED, "REPORT_4002", "운영자만 레포트를 생성할 수 있습니다."),
-    REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT_4003", "존재하지 않는 레포트입니다");
+    REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT_4003", "존재하지 않는 레포트입니다"),
+    REPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT_4004", "존재하지 않는 레포트 생성 작업입니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -44,6 +44,7 @@ public enum SuccessStatus {
     POLICY_REPLY_FILTER_SUCCESS(HttpStatus.OK, "REPLY_200", "댓글 필터링 성공"),
     POLICY_REPLY_LIKE_SUCCESS(HttpStatus.OK, "REPLY_200", "정책 댓글 좋아요 완료"),
     POLICY_REPLY_LIKE_COUNT_SUCCESS(HttpStatus.OK, "REPLY_200", "정책 댓글 개수 카운트 완료"),
+    POLICY_SYNC_STATUS_SUCCESS(HttpStatus.OK, "POLICY_200", "정책 동기화 상태 조회 성공"),
 
     // test
     SUCCESS_TEST(HttpStatus.OK, "TEST_200", "테스트 완료");
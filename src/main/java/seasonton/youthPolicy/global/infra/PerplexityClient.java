@@ -37,24 +37,35 @@ public class PerplexityClient {
     @Value("classpath:templates/reply-filtering-prompt.st")
     private Resource summarizePr3;
 
+    @Value("classpath:templates/reply-batch-filtering-prompt.st")
+    private Resource summarizePr4;
+
     private String reportPrompt;
     private String replyPrompt;
     private String filteringPrompt;
+    private String batchFilteringPrompt;
 
     @PostConstruct
     public void init() {
         this.reportPrompt = promptHolder.reportPrompt(summarizePr1);
         this.replyPrompt = promptHolder.reportPrompt(summarizePr2);
         this.filteringPrompt = promptHolder.reportPrompt(summarizePr3);
+        this.batchFilteringPrompt = promptHolder.reportPrompt(summarizePr4);
     }
 
     public PerplexityChatResponse summarize(String content, int type) {
+        return summarizeAsync(content, type, 1024).block();
+    }
+
+    // 블로킹 없이 호출 (여러 요청을 동시에 보낼 때), maxTokens 는 응답 길이에 맞춰 지정
+    public Mono<PerplexityChatResponse> summarizeAsync(String content, int type, int maxTokens) {
 
         String systemPrompt;
         switch (type) {
             case 1 -> systemPrompt = reportPrompt;
             case 2  -> systemPrompt = replyPrompt;
             case 3 -> systemPrompt = filteringPrompt;
+            case 4 -> systemPrompt = batchFilteringPrompt;
             default -> throw new IllegalArgumentException("Unknown type: " + type);
         }
 
@@ -66,7 +77,7 @@ public class PerplexityClient {
                 })
                 // 옵션 설정
                 .disable_search(true)
-                .max_tokens(1024)
+                .max_tokens(maxTokens)
                 .temperature(0.3)
                 .top_p(0.9)
                 .return_citations(false)
@@ -85,8 +96,7 @@ public class PerplexityClient {
                 .onStatus(HttpStatusCode::isError, resp -> resp.bodyToMono(String.class)
                         .flatMap(body -> Mono.error(new RuntimeException("Perplexity error: " + body))))
                 .bodyToMono(PerplexityChatResponse.class)
-                .retryWhen(Retry.backoff(2, Duration.ofSeconds(1))) // 간단 재시도
-                .block();
+                .retryWhen(Retry.backoff(2, Duration.ofSeconds(1))); // 간단 재시도
     }
 
     // WebClient Bean
@@ -0,0 +1,32 @@
+package seasonton.youthPolicy.global.infra;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 간격 제한 (분당 N회 → 호출마다 60/N 초 간격의 슬롯을 하나씩 배정)
+ * 여러 스레드가 동시에 acquire 해도 슬롯이 겹치지 않아 순간적으로 몰리지 않는다.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextSlot;
+
+    public RateLimiter(int permitsPerMinute) {
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(permitsPerMinute, 1);
+        this.nextSlot = System.nanoTime();
+    }
+
+    // 내 슬롯이 올 때까지 대기
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlot);
+            nextSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package seasonton.youthPolicy.global.infra;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import seasonton.youthPolicy.domain.policy.exception.PolicyException;
+import seasonton.youthPolicy.global.error.code.status.ErrorStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 청년정책 공공데이터 API 호출
+ * - keep-alive 커넥션 풀 + 연결/응답 타임아웃을 가진 전용 WebClient (Perplexity 용 WebClient 빈과 분리)
+ * - 쿼리 파라미터는 URI 변수로 넘겨 인코딩 (정책명의 공백, &, 한글 등)
+ * - 서로 독립적인 요청(카테고리별 검색 등)은 병렬로 보냄
+ * - 응답은 String / 전체 JsonNode 트리를 만들지 않고, 본문을 한데 모으지도 않고
+ *   도착하는 버퍼를 JsonParser 로 바로 읽으며, 목록 화면용 호출은 필요한 필드만 남기고 긴 텍스트 필드는 건너뜀
+ * - 같은 목록 조회(페이지, 크기, 대분류, 정책명, 필드)가 동시에 들어오면 요청 하나를 공유하고,
+ *   응답 후 잠깐(coalesce-ttl) 동안은 그 결과를 그대로 재사용
+ * - 서킷 브레이커(연속 실패 시 잠시 차단) + 동시 호출 수 제한(bulkhead)
+ *   → 차단/포화 상태면 기다리지 않고 POLICY_API_UNAVAILABLE, 호출부는 카탈로그로 대체
+ */
+@Component
+public class YouthPolicyClient {
+
+    // 파서가 읽기 전에 미리 받아 둘 수신 버퍼 수 (응답 전체가 아니라 이만큼만 메모리에 머무름)
+    private static final int PREFETCH_BUFFERS = 4;
+    // 이보다 많이 쌓이면 만료된 공유 요청 정리
+    private static final int MAX_SHARED_PAGES = 256;
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final ConnectionProvider connectionProvider;
+    private final String apiKey;
+    private final Duration readTimeout;
+    private final int fanOutConcurrency;
+    private final long coalesceTtlNanos;
+
+    // 목록 조회 키 → 진행 중이거나 방금 끝난 요청
+    private final Map<String, Shared> sharedPages = new ConcurrentHashMap<>();
+    private final AtomicLong issuedCount = new AtomicLong();       // 실제로 API 를 호출한 횟수
+    private final AtomicLong rejectedCount = new AtomicLong();     // 차단/포화로 호출하지 않은 횟수
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final AtomicLong coalescedCount = new AtomicLong();    // 다른 요청 결과를 공유한 횟수
+
+    public YouthPolicyClient(
+            WebClient.Builder builder,
+            ObjectMapper objectMapper,
+            @Value("${youth.api.url}") String baseUrl,
+            @Value("${youth.api.key}") String apiKey,
+            @Value("${youth.api.connect-timeout:PT3S}") Duration connectTimeout,
+            @Value("${youth.api.read-timeout:PT10S}") Duration readTimeout,
+            @Value("${youth.api.max-connections:20}") int maxConnections,
+            @Value("${youth.api.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${youth.api.fan-out-concurrency:4}") int fanOutConcurrency,
+            @Value("${youth.api.coalesce-ttl:PT2S}") Duration coalesceTtl,
+            @Value("${youth.api.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${youth.api.circuit-failure-threshold:5}") int circuitFailureThreshold,
+            @Value("${youth.api.circuit-open-duration:PT30S}") Duration circuitOpenDuration
+    ) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.readTimeout = readTimeout;
+        this.fanOutConcurrency = fanOutConcurrency;
+        this.coalesceTtlNanos = coalesceTtl.toNanos();
+        this.circuitBreaker = new CircuitBreaker("youth-policy", circuitFailureThreshold, circuitOpenDuration);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+
+        this.connectionProvider = ConnectionProvider.builder("youth-policy")
+                .maxConnections(maxConnections)
+                .maxIdleTime(maxIdleTime)
+                .pendingAcquireTimeout(connectTimeout.plus(readTimeout))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .keepAlive(true);
+
+        this.webClient = builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    // 정책 목록 한 페이지 조회 (카테고리/정책명은 선택, 항목별로 fields 에 있는 필드만, null 이면 전체)
+    public JsonNode fetchPage(int pageNum, int pageSize, String lclsfNm, String plcyNm, Set<String> fields) {
+        return block(fetchPageAsync(pageNum, pageSize, lclsfNm, plcyNm, fields));
+    }
+
+    // 정책 번호로 조회
+    public JsonNode fetchByPlcyNo(String plcyNo) {
+        return block(call(Map.of("plcyNo", plcyNo), null));
+    }
+
+    // 정책명으로 조회
+    public JsonNode fetchByPlcyNm(String plcyNm) {
+        return block(call(Map.of("plcyNm", plcyNm), null));
+    }
+
+    // 카테고리별 목록을 병렬로 조회 (결과는 categories 순서 유지)
+    public List<JsonNode> fetchPagesByCategory(List<String> categories, int pageNum, int pageSize,
+                                               String plcyNm, Set<String> fields) {
+        int waves = Math.max(1, (categories.size() + fanOutConcurrency - 1) / fanOutConcurrency);
+        return Flux.fromIterable(categories)
+                .flatMapSequential(category -> fetchPageAsync(pageNum, pageSize, category, plcyNm, fields),
+                        fanOutConcurrency)
+                .collectList()
+                .timeout(readTimeout.multipliedBy(waves).plusSeconds(5))
+                .onErrorMap(e -> !(e instanceof PolicyException),
+                        e -> new PolicyException(ErrorStatus.POLICY_API_ERROR))
+                .block();
+    }
+
+    public Mono<JsonNode> fetchPageAsync(int pageNum, int pageSize, String lclsfNm, String plcyNm,
+                                         Set<String> fields) {
+        String key = pageNum + "|" + pageSize + "|" + Objects.toString(lclsfNm, "") + "|"
+                + Objects.toString(plcyNm, "") + "|" + (fields == null ? "*" : String.join(",", new TreeSet<>(fields)));
+        return coalesce(key, () -> requestPage(pageNum, pageSize, lclsfNm, plcyNm, fields));
+    }
+
+    public long issuedCount() {
+        return issuedCount.get();
+    }
+
+    public long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long rejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public String circuitState() {
+        return circuitBreaker.state().name();
+    }
+
+    // 같은 키의 요청이 진행 중이거나 coalesce-ttl 이내에 끝났으면 그 결과를 공유
+    private Mono<JsonNode> coalesce(String key, Supplier<Mono<JsonNode>> request) {
+        long now = System.nanoTime();
+        Shared existing = sharedPages.get(key);
+        if (existing != null && !existing.isExpired(now, coalesceTtlNanos)) {
+            coalescedCount.incrementAndGet();
+            return existing.mono;
+        }
+        if (sharedPages.size() > MAX_SHARED_PAGES) {
+            sharedPages.values().removeIf(shared -> shared.isExpired(now, coalesceTtlNanos));
+        }
+
+        Shared created = new Shared();
+        created.mono = request.get()
+                .doOnSuccess(result -> created.completedAt = System.nanoTime())
+                .doOnError(e -> sharedPages.remove(key, created))
+                .cache(result -> Duration.ofNanos(coalesceTtlNanos), e -> Duration.ZERO, () -> Duration.ZERO);
+
+        Shared winner = sharedPages.merge(key, created,
+                (current, mine) -> current.isExpired(System.nanoTime(), coalesceTtlNanos) ? mine : current);
+        if (winner != created) {
+            coalescedCount.incrementAndGet();
+        }
+        return winner.mono;
+    }
+
+    private Mono<JsonNode> requestPage(int pageNum, int pageSize, String lclsfNm, String plcyNm, Set<String> fields) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("pageNum", pageNum);
+        params.put("pageSize", pageSize);
+        if (lclsfNm != null && !lclsfNm.isBlank()) {
+            params.put("lclsfNm", lclsfNm);
+        }
+        if (plcyNm != null && !plcyNm.isBlank()) {
+            params.put("plcyNm", plcyNm);
+        }
+        return call(params, fields);
+    }
+
+    // 브레이커/bulkhead 를 통과한 경우에만 호출 (구독 시점에 판단)
+    private Mono<JsonNode> call(Map<String, Object> params, Set<String> fields) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                return reject();
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                return reject();
+            }
+
+            issuedCount.incrementAndGet();
+            return request(params, fields)
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(e -> circuitBreaker.onFailure())
+                    .doFinally(signal -> {
+                        // 응답 전에 취소(호출부 타임아웃)된 것도 실패로 본다
+                        if (signal == SignalType.CANCEL) circuitBreaker.onFailure();
+                        bulkhead.release();
+                    });
+        });
+    }
+
+    private Mono<JsonNode> reject() {
+        rejectedCount.incrementAndGet();
+        return Mono.error(new PolicyException(ErrorStatus.POLICY_API_UNAVAILABLE));
+    }
+
+    // 응답의 result 노드 반환 (수신 버퍼가 도착하는 대로 스트리밍 파싱)
+    // 파서는 다음 버퍼를 기다리며 블로킹하므로 이벤트 루프가 아닌 boundedElastic 에서 읽음
+    private Mono<JsonNode> request(Map<String, Object> params, Set<String> fields) {
+        Flux<DataBuffer> body = webClient.get()
+                .uri(uriBuilder -> buildUri(uriBuilder, params))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+
+        return Mono.fromCallable(() -> {
+                    try (InputStream in = DataBufferUtils.subscriberInputStream(body, PREFETCH_BUFFERS)) {
+                        return parseResult(in, fields);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorMap(e -> !(e instanceof PolicyException),
+                        e -> new PolicyException(ErrorStatus.POLICY_API_ERROR));
+    }
+
+    // apiKeyNm, rtnType 공통 + 요청 파라미터 (값은 URI 변수로 인코딩)
+    private URI buildUri(UriBuilder uriBuilder, Map<String, Object> params) {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("apiKeyNm", apiKey);
+        variables.put("rtnType", "json");
+        variables.putAll(params);
+
+        variables.keySet().forEach(name -> uriBuilder.queryParam(name, "{" + name + "}"));
+        return uriBuilder.build(variables);
+    }
+
+    /**
+     * { "result": { "paging": {...}, "youthPolicyList": [ {...}, ... ] } } 에서
+     * paging 과 정책 항목(필요한 필드만)으로 작은 result 노드를 만든다.
+     * 나머지 필드와 건너뛴 긴 텍스트는 트리로 만들지 않는다. (테스트에서 전체 트리 파싱 결과와 비교)
+     */
+    JsonNode parseResult(InputStream in, Set<String> fields) throws IOException {
+        ObjectNode result = objectMapper.createObjectNode();
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new PolicyException(ErrorStatus.POLICY_API_ERROR);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("result".equals(name) && value == JsonToken.START_OBJECT) {
+                    readResult(parser, result, fields);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void readResult(JsonParser parser, ObjectNode result, Set<String> fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("youthPolicyList".equals(name) && value == JsonToken.START_ARRAY) {
+                ArrayNode items = result.putArray(name);
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    items.add(readItem(parser, fields));
+                }
+            } else if ("paging".equals(name)) {
+                result.set(name, parser.readValueAsTree());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private ObjectNode readItem(JsonParser parser, Set<String> fields) throws IOException {
+        ObjectNode item = objectMapper.createObjectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (fields == null || fields.contains(name)) {
+                item.set(name, parser.readValueAsTree());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    // 공유 중인 목록 요청 (completedAt == 0 이면 아직 진행 중)
+    private static final class Shared {
+        private Mono<JsonNode> mono;
+        private volatile long completedAt;
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return completedAt != 0 && now - completedAt > ttlNanos;
+        }
+    }
+
+    // 동기 호출부용 (응답 타임아웃 + 여유)
+    private <T> T block(Mono<T> mono) {
+        try {
+            return mono.block(readTimeout.plusSeconds(5));
+        } catch (IllegalStateException e) {
+            throw new PolicyException(ErrorStatus.POLICY_API_ERROR);    // 대기 시간 초과
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import seasonton.youthPolicy.domain.policy.domain.entity.Policy;
+import seasonton.youthPolicy.domain.policy.domain.enums.PolicyStatus;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicySyncStateRepository;
+import seasonton.youthPolicy.domain.policy.dto.PolicyResponseDTO;
+import seasonton.youthPolicy.global.common.RegionCodeMapper;
+import seasonton.youthPolicy.global.common.Sido;
+import seasonton.youthPolicy.global.infra.PerplexityClient;
+import seasonton.youthPolicy.global.infra.YouthPolicyClient;
+import seasonton.youthPolicy.support.Fixtures;
+import seasonton.youthPolicy.support.StubServer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정책 카탈로그 동기화 (로컬 스텁 API)
+ * 스텁은 pageNum 별로 fixtures/youth-policy/sync-page-N.json 을 응답 (pageSize 2, 전체 3건)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({YouthPolicyService.class, PolicySyncService.class, PolicySearchIndex.class, PolicyLikeRanking.class,
+        PolicyDetailCache.class, YouthPolicyClient.class, RegionCodeMapper.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, CodecsAutoConfiguration.class,
+        WebClientAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)     // 동기화는 페이지마다 직접 커밋
+class PolicySyncServiceTest {
+
+    private static final StubServer upstream = StubServer.start();
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("youth.api.url", upstream::url);
+        registry.add("youth.api.key", () -> "test-key");
+        registry.add("youth.api.coalesce-ttl", () -> "PT0S");
+        registry.add("youth.catalog.sync-page-size", () -> 2);
+    }
+
+    @Autowired
+    private PolicySyncService policySyncService;
+
+    @Autowired
+    private YouthPolicyService youthPolicyService;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private PolicySyncStateRepository policySyncStateRepository;
+
+    @MockitoBean
+    private PerplexityClient perplexityClient;
+
+    @BeforeEach
+    void setUp() {
+        policyRepository.deleteAllInBatch();
+        policySyncStateRepository.deleteAllInBatch();
+        upstream.reset();
+        upstream.respond(request -> StubServer.Response.json(page(request.query().get("pageNum"))));
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    @DisplayName("전체 동기화는 API 의 모든 페이지를 정규화해서 카탈로그에 저장한다")
+    void syncAllStoresEveryUpstreamPolicy() {
+        policySyncService.syncAll();
+
+        assertThat(policyRepository.count()).isEqualTo(3);
+        Policy rent = policyRepository.findByPlcyNo("20250101005400110001").orElseThrow();
+        assertThat(rent.getPlcyNm()).isEqualTo("청년 월세 지원");
+        assertThat(rent.getRegionMask()).isEqualTo(Sido.서울.bit());
+        assertThat(rent.getSprtTrgtMaxAge()).isEqualTo(34);
+        assertThat(rent.getLastMdfcnDt()).isEqualTo("2025-03-01 09:00:00");
+        assertThat(policySyncService.isFresh()).isTrue();
+        assertThat(policySyncStateRepository.findById("policy").orElseThrow().getWatermark())
+                .isEqualTo("2025-03-01 09:00:00");
+
+        assertThat(upstream.requests())
+                .extracting(request -> request.query().get("pageNum"))
+                .containsExactly("1", "2");
+        assertThat(upstream.requests()).allSatisfy(request -> assertThat(request.query())
+                .containsEntry("pageSize", "2")
+                .containsEntry("apiKeyNm", "test-key"));
+    }
+
+    @Test
+    @DisplayName("API 에서 사라진 정책은 다음 전체 동기화 때 카탈로그에서도 삭제된다")
+    void syncAllRemovesPoliciesMissingUpstream() {
+        policySyncService.syncAll();
+
+        // 2페이지 정책이 빠지고 전체 2건
+        upstream.respond(request -> StubServer.Response.json(page("1").replace("\"totalCount\": 3", "\"totalCount\": 2")));
+        policySyncService.syncAll();
+
+        assertThat(policyRepository.findAllPlcyNos())
+                .containsExactlyInAnyOrder("20250101005400110001", "20250102005400110002");
+    }
+
+    @Test
+    @DisplayName("카탈로그가 최신이면 목록/상태/검색 조회는 API 를 호출하지 않는다")
+    void readsAreServedFromCatalog() {
+        policySyncService.syncAll();
+        int calls = upstream.requests().size();
+
+        PolicyResponseDTO.PolicyListResponse latest = youthPolicyService.getPolicies(1, 10);
+        PolicyResponseDTO.PolicyStatusResponse status = youthPolicyService.getPolicyStatus("20241201005400110003");
+        PolicyResponseDTO.PolicySearchListResponse housing =
+                youthPolicyService.searchPolicies(List.of("주거"), null, null, null, 1, 10);
+
+        assertThat(latest.getTotalCount()).isEqualTo(3);
+        assertThat(latest.isStale()).isFalse();
+        assertThat(latest.getPolicies())
+                .extracting(PolicyResponseDTO.YouthPolicyResponse::getPlcyNo)
+                .containsExactly("20250102005400110002", "20250101005400110001", "20241201005400110003");
+        assertThat(status.getStatus()).isEqualTo(PolicyStatus.COMPLETED);
+        assertThat(housing.getPolicies())
+                .extracting(PolicyResponseDTO.YouthPolicySearchResponse::getPlcyNo)
+                .containsExactly("20250101005400110001");
+
+        assertThat(upstream.requests()).hasSize(calls);
+    }
+
+    @Test
+    @DisplayName("목록이 수정일 내림차순이면 증분 동기화는 워터마크 이하 항목이 나온 페이지에서 멈춘다")
+    void syncDeltaStopsAtWatermarkWhenUpstreamIsSortedByModification() {
+        policySyncService.syncAll();
+        upstream.reset();
+
+        // 1페이지 첫 정책만 워터마크(2025-03-01 09:00:00) 이후 수정
+        upstream.respond(request -> StubServer.Response.json(page(request.query().get("pageNum"))
+                .replace("\"lastMdfcnDt\": \"2025-03-01 09:00:00\"", "\"lastMdfcnDt\": \"2025-04-01 10:00:00\"")
+                .replace("\"plcySprtCn\": \"월 최대 20만원, 최대 12개월\"", "\"plcySprtCn\": \"월 최대 30만원\"")));
+        policySyncService.syncDelta();
+
+        assertThat(upstream.requests()).extracting(request -> request.query().get("pageNum")).containsExactly("1");
+        assertThat(policyRepository.findByPlcyNo("20250101005400110001").orElseThrow().getPlcySprtCn())
+                .isEqualTo("월 최대 30만원");
+        assertThat(policySyncStateRepository.findById("policy").orElseThrow().getWatermark())
+                .isEqualTo("2025-04-01 10:00:00");
+    }
+
+    @Test
+    @DisplayName("목록이 수정일 순이 아니면 증분 동기화는 끝 페이지까지 읽어 오래된 정책의 수정도 반영한다")
+    void syncDeltaScansEveryPageWhenUpstreamIsNotSortedByModification() {
+        // 2페이지 정책이 가장 최근에 수정됨 → 전체 동기화 시 내림차순 아님으로 기록
+        upstream.respond(request -> StubServer.Response.json(page(request.query().get("pageNum"))
+                .replace("\"lastMdfcnDt\": \"2024-12-15 18:00:00\"", "\"lastMdfcnDt\": \"2025-03-05 00:00:00\"")));
+        policySyncService.syncAll();
+        upstream.reset();
+
+        upstream.respond(request -> StubServer.Response.json(page(request.query().get("pageNum"))
+                .replace("\"lastMdfcnDt\": \"2024-12-15 18:00:00\"", "\"lastMdfcnDt\": \"2025-05-01 00:00:00\"")
+                .replace("\"plcyNm\": \"청년 창업 공간 지원\"", "\"plcyNm\": \"청년 창업 공간 지원 (2기)\"")));
+        policySyncService.syncDelta();
+
+        assertThat(upstream.requests()).extracting(request -> request.query().get("pageNum")).containsExactly("1", "2");
+        assertThat(policyRepository.findByPlcyNo("20241201005400110003").orElseThrow().getPlcyNm())
+                .isEqualTo("청년 창업 공간 지원 (2기)");
+    }
+
+    @Test
+    @DisplayName("plcyNo 없는 API 행은 삭제 검증에서 건수 차이로 보지 않는다")
+    void reconcileIgnoresUpstreamRowsThatAreNeverStored() {
+        upstream.respond(request -> StubServer.Response.json(page(request.query().get("pageNum"))
+                .replace("\"plcyNo\": \"20250102005400110002\",", "")));
+        policySyncService.syncAll();
+        assertThat(policyRepository.count()).isEqualTo(2);
+        upstream.reset();
+        upstream.respond(request -> StubServer.Response.json(page("1")));
+
+        policySyncService.reconcile();
+
+        // 건수 조회 1회뿐, 전체 동기화 없음
+        assertThat(upstream.requests()).hasSize(1);
+        assertThat(upstream.requests().get(0).query()).containsEntry("pageSize", "1");
+        assertThat(policySyncStateRepository.findById("policy").orElseThrow().getUpstreamSkew()).isEqualTo(1);
+    }
+
+    private static String page(String pageNum) {
+        return Fixtures.read("youth-policy/sync-page-" + pageNum + ".json");
+    }
+}
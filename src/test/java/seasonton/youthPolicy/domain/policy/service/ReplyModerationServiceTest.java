@@ -0,0 +1,240 @@
+package seasonton.youthPolicy.domain.policy.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import seasonton.youthPolicy.domain.member.domain.entity.User;
+import seasonton.youthPolicy.domain.member.domain.repository.UserRepository;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReply;
+import seasonton.youthPolicy.domain.policy.domain.entity.PolicyReplyLike;
+import seasonton.youthPolicy.domain.policy.domain.entity.ReplySummary;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyLikeRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.PolicyReplyRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.ReplySummaryRepository;
+import seasonton.youthPolicy.domain.policy.domain.repository.ReplyVerdictRepository;
+import seasonton.youthPolicy.global.infra.PerplexityClient;
+import seasonton.youthPolicy.global.infra.PromptHolder;
+import seasonton.youthPolicy.support.StubServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정책 댓글 일괄 검사 (로컬 스텁 chat/completions)
+ * 스텁 판정: "광고" 가 들어간 댓글은 BLOCK, "누락" 이 들어간 댓글은 응답에서 빠뜨림, 나머지는 OK
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReplyModerationService.class, ReplyVerdictStore.class, PromptHolder.class, PerplexityClient.class,
+        PerplexityClient.PerplexityWebClientFactory.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, CodecsAutoConfiguration.class,
+        WebClientAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)     // 차단 댓글 삭제는 서비스가 직접 커밋
+class ReplyModerationServiceTest {
+
+    private static final StubServer perplexity = StubServer.start();
+    private static final Pattern LINE = Pattern.compile("^\\[(\\d+)] (.*)$", Pattern.MULTILINE);
+
+    @DynamicPropertySource
+    static void perplexityProperties(DynamicPropertyRegistry registry) {
+        registry.add("perplexity.base-url", perplexity::url);
+        registry.add("perplexity.api-key", () -> "test-key");
+        registry.add("perplexity.model", () -> "test-model");
+        registry.add("perplexity.timeout-ms", () -> 5000);
+        registry.add("moderation.batch-size", () -> 2);
+    }
+
+    @Autowired
+    private ReplyModerationService replyModerationService;
+
+    @Autowired
+    private PolicyReplyRepository policyReplyRepository;
+
+    @Autowired
+    private PolicyReplyLikeRepository policyReplyLikeRepository;
+
+    @Autowired
+    private ReplyVerdictRepository replyVerdictRepository;
+
+    @Autowired
+    private ReplySummaryRepository replySummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String plcyNo;
+    private String run;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        plcyNo = "policy-" + run;
+        user = userRepository.save(User.builder()
+                .email("moderation-" + run + "@example.com")
+                .password("password")
+                .nickname("작성자")
+                .build());
+        perplexity.reset();
+        perplexity.respond(request -> StubServer.Response.json(verdicts(request.body())));
+    }
+
+    @AfterAll
+    static void stopPerplexity() {
+        perplexity.close();
+    }
+
+    @Test
+    @DisplayName("BLOCK 판정 댓글과 그 좋아요만 삭제하고, 판정이 빠진 댓글은 남긴다")
+    void deletesBlockedRepliesAndKeepsUnjudgedOnes() {
+        PolicyReply ok = reply("좋은 정책이네요 " + run);
+        PolicyReply spam = reply("광고 문의 주세요 " + run);
+        PolicyReply unjudged = reply("누락될 댓글 " + run);
+        PolicyReplyLike spamLike = policyReplyLikeRepository.save(PolicyReplyLike.builder().user(user).policyReply(spam).build());
+        PolicyReplyLike okLike = policyReplyLikeRepository.save(PolicyReplyLike.builder().user(user).policyReply(ok).build());
+
+        List<Long> deleted = replyModerationService.autoDeleteAbnormalReplies(plcyNo);
+
+        assertThat(deleted).containsExactly(spam.getId());
+        assertThat(policyReplyRepository.findByPlcyNo(plcyNo))
+                .extracting(PolicyReply::getId)
+                .containsExactlyInAnyOrder(ok.getId(), unjudged.getId());
+        assertThat(policyReplyLikeRepository.existsById(spamLike.getId())).isFalse();
+        assertThat(policyReplyLikeRepository.existsById(okLike.getId())).isTrue();
+
+        // 서로 다른 내용 3건, 묶음 크기 2 → 요청 2번, 설정한 모델로 요청
+        assertThat(perplexity.requests()).hasSize(2);
+        assertThat(perplexity.requests()).allSatisfy(request -> {
+            assertThat(request.path()).isEqualTo("/chat/completions");
+            assertThat(json(request.body()).path("model").asText()).isEqualTo("test-model");
+        });
+    }
+
+    @Test
+    @DisplayName("차단 댓글을 삭제하면 그 댓글이 반영된 요약도 삭제한다")
+    void deletingBlockedRepliesDropsStoredSummary() {
+        reply("좋은 정책이네요 " + run);
+        PolicyReply spam = reply("광고 문의 주세요 " + run);
+        replySummaryRepository.save(ReplySummary.builder()
+                .plcyNo(plcyNo)
+                .summary("광고 문의가 많습니다.")
+                .lastReplyId(spam.getId())
+                .replyCount(2)
+                .generatedAt(LocalDateTime.now())
+                .build());
+
+        replyModerationService.autoDeleteAbnormalReplies(plcyNo);
+
+        assertThat(replySummaryRepository.existsById(plcyNo)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 내용은 한 번만 검사하고, 판정은 저장해 다음 검사에서 다시 묻지 않는다")
+    void judgesEachContentOnceAndReusesStoredVerdicts() {
+        reply("같은 내용 " + run);
+        reply("  같은   내용 " + run + "  ");     // 공백만 다름 → 같은 내용
+        reply("광고 링크 " + run);
+        reply("누락될 댓글 " + run);
+
+        replyModerationService.autoDeleteAbnormalReplies(plcyNo);
+
+        List<String> asked = askedContents();
+        assertThat(asked).hasSize(3);
+        assertThat(asked.stream().filter(content -> content.startsWith("같은 내용"))).hasSize(1);
+        assertThat(replyVerdictRepository.count()).isGreaterThanOrEqualTo(2);
+
+        // 다른 정책에 같은 내용 → 저장된 판정 사용, 판정이 없던 내용만 다시 요청
+        plcyNo = "policy-" + run + "-2";
+        perplexity.reset();
+        perplexity.respond(request -> StubServer.Response.json(verdicts(request.body())));
+        reply("같은 내용 " + run);
+        PolicyReply spam = reply("광고 링크 " + run);
+        reply("누락될 댓글 " + run);
+
+        List<Long> deleted = replyModerationService.autoDeleteAbnormalReplies(plcyNo);
+
+        assertThat(deleted).containsExactly(spam.getId());
+        assertThat(askedContents()).containsExactly("누락될 댓글 " + run);
+    }
+
+    private PolicyReply reply(String content) {
+        return policyReplyRepository.save(PolicyReply.builder()
+                .content(content)
+                .writer(user.getNickname())
+                .plcyNo(plcyNo)
+                .plcyNm("테스트 정책")
+                .user(user)
+                .build());
+    }
+
+    // 스텁이 받은 모든 요청의 댓글 내용
+    private List<String> askedContents() {
+        return perplexity.requests().stream()
+                .flatMap(request -> LINE.matcher(userMessage(request.body())).results())
+                .map(match -> match.group(2))
+                .toList();
+    }
+
+    // 요청의 "[id] 내용" 줄마다 판정 (chat/completions 응답 형식, 코드블록으로 감쌈)
+    private String verdicts(String body) {
+        ArrayNode verdicts = objectMapper.createArrayNode();
+        Matcher matcher = LINE.matcher(userMessage(body));
+        while (matcher.find()) {
+            String content = matcher.group(2);
+            if (content.contains("누락")) continue;
+            boolean blocked = content.contains("광고");
+            verdicts.addObject()
+                    .put("id", Long.parseLong(matcher.group(1)))
+                    .put("verdict", blocked ? "BLOCK" : "OK")
+                    .put("reason", blocked ? "광고성 댓글" : "");
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putArray("choices").addObject().putObject("message")
+                .put("role", "assistant")
+                .put("content", "판정 결과입니다.\n```json\n" + verdicts + "\n```");
+        return response.toString();
+    }
+
+    private String userMessage(String body) {
+        for (JsonNode message : json(body).path("messages")) {
+            if ("user".equals(message.path("role").asText())) return message.path("content").asText();
+        }
+        return "";
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package seasonton.youthPolicy.domain.post.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import seasonton.youthPolicy.domain.member.domain.entity.User;
+import seasonton.youthPolicy.domain.member.domain.repository.UserRepository;
+import seasonton.youthPolicy.domain.model.entity.Region;
+import seasonton.youthPolicy.domain.model.repository.RegionRepository;
+import seasonton.youthPolicy.domain.model.service.RegionCache;
+import seasonton.youthPolicy.domain.post.domain.entity.PostLike;
+import seasonton.youthPolicy.domain.post.domain.entity.PostStats;
+import seasonton.youthPolicy.domain.post.domain.entity.Posts;
+import seasonton.youthPolicy.domain.post.domain.repository.PostLikeRepository;
+import seasonton.youthPolicy.domain.post.domain.repository.PostRepository;
+import seasonton.youthPolicy.domain.post.domain.repository.PostStatsRepository;
+import seasonton.youthPolicy.domain.post.dto.PostResponseDTO;
+import seasonton.youthPolicy.global.service.S3Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 조회 쿼리 수 (Hibernate Statistics)
+ * 목록은 DTO 프로젝션으로 읽으므로 페이지 크기와 관계없이 문장 수가 고정이어야 한다. (글/지역 지연 로딩 없음)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({PostService.class, RegionCache.class})
+class PostListQueryCountTest {
+
+    private static final int POSTS = 30;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private RegionCache regionCache;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private VoteTallyBroadcaster voteTallyBroadcaster;
+
+    private Statistics statistics;
+    private Region seoul;
+
+    @BeforeEach
+    void setUp() {
+        seoul = regionRepository.save(Region.builder().RegionName("서울").build());
+        Region busan = regionRepository.save(Region.builder().RegionName("부산").build());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(userRepository.save(User.builder()
+                    .email("user" + i + "@example.com")
+                    .password("password")
+                    .nickname("user" + i)
+                    .build()));
+        }
+
+        for (int i = 0; i < POSTS; i++) {
+            Region region = i % 2 == 0 ? seoul : busan;
+            Posts post = postRepository.save(Posts.builder()
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .writer(users.get(0).getNickname())
+                    .region(region)
+                    .user(users.get(0))
+                    .build());
+            postStatsRepository.save(PostStats.builder()
+                    .postId(post.getId())
+                    .regionId(region.getId())
+                    .createdAt(post.getCreatedAt())
+                    .build());
+
+            // 글마다 좋아요 0~3개
+            for (int u = 0; u < i % 4 && u < users.size(); u++) {
+                postLikeRepository.save(PostLike.builder().user(users.get(u)).post(post).build());
+                postStatsRepository.increaseLikeCount(post.getId());
+            }
+        }
+
+        regionCache.exists(seoul.getId());      // 지역 캐시는 미리 채워 둔다
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("최신순 목록은 페이지 크기와 관계없이 목록 1 + COUNT 1 문장")
+    void latestPageUsesListAndCountQueries() {
+        Page<PostResponseDTO.PostListResponse> small = statements(2, () ->
+                postService.getPosts(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        Page<PostResponseDTO.PostListResponse> large = statements(2, () ->
+                postService.getPosts(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        assertThat(small.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(20);
+        assertThat(large.getTotalElements()).isEqualTo(POSTS);
+        assertThat(large.getContent()).allSatisfy(post -> assertThat(post.getRegionName()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("좋아요순 목록은 페이지 크기와 관계없이 목록 1 + COUNT 1 문장")
+    void likePageUsesListAndCountQueries() {
+        Page<PostResponseDTO.PostLikeListResponse> small = statements(2, () ->
+                postService.getPostsOrderByLikeCount(PageRequest.of(0, 5)));
+        Page<PostResponseDTO.PostLikeListResponse> large = statements(2, () ->
+                postService.getPostsOrderByLikeCount(PageRequest.of(0, 20)));
+
+        assertThat(small.getContent()).hasSize(5);
+        assertThat(large.getContent()).hasSize(20);
+        assertThat(large.getContent()).extracting(PostResponseDTO.PostLikeListResponse::getLikeCount)
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("커서 목록(최신순/좋아요순/지역)은 페이지마다 1 문장")
+    void cursorPagesUseSingleQuery() {
+        PostResponseDTO.PostCursorListResponse latest = statements(1, () -> postService.getPostsByCursor(null, 10));
+        PostResponseDTO.PostCursorListResponse latestNext =
+                statements(1, () -> postService.getPostsByCursor(latest.getNextCursor(), 10));
+
+        PostResponseDTO.PostLikeCursorListResponse liked =
+                statements(1, () -> postService.getPostsOrderByLikeCountByCursor(null, 10));
+        statements(1, () -> postService.getPostsOrderByLikeCountByCursor(liked.getNextCursor(), 10));
+
+        PostResponseDTO.PostRegionCursorListResponse region =
+                statements(1, () -> postService.getPostsByRegionByCursor(seoul.getId(), null, 10));
+        statements(1, () -> postService.getPostsByRegionByCursor(seoul.getId(), region.getNextCursor(), 10));
+
+        assertThat(latest.getPosts()).hasSize(10);
+        assertThat(latestNext.getPosts()).hasSize(10);
+        assertThat(region.getPosts()).allSatisfy(post -> assertThat(post.getRegionName()).isEqualTo("서울"));
+    }
+
+    @Test
+    @DisplayName("지역별 목록은 페이지 크기와 관계없이 1 문장 (COUNT 없음)")
+    void regionPageUsesSingleQuery() {
+        List<PostResponseDTO.PostRegionListResponse> small =
+                statements(1, () -> postService.getPostsByRegion(seoul.getId(), 1, 5));
+        List<PostResponseDTO.PostRegionListResponse> all =
+                statements(1, () -> postService.getPostsByRegion(seoul.getId(), 1, 20));
+
+        assertThat(small).hasSize(5);
+        assertThat(all).hasSize(POSTS / 2);
+    }
+
+    // 실행한 JDBC 문장 수 확인
+    private <T> T statements(long expected, Supplier<T> call) {
+        entityManager.clear();
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount()).as("prepared statements").isEqualTo(expected);
+        return result;
+    }
+}
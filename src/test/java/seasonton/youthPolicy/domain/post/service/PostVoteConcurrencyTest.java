@@ -0,0 +1,210 @@
+package seasonton.youthPolicy.domain.post.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import seasonton.youthPolicy.domain.member.domain.entity.User;
+import seasonton.youthPolicy.domain.member.domain.repository.UserRepository;
+import seasonton.youthPolicy.domain.model.entity.Region;
+import seasonton.youthPolicy.domain.model.repository.RegionRepository;
+import seasonton.youthPolicy.domain.model.service.RegionCache;
+import seasonton.youthPolicy.domain.post.domain.entity.PostVote;
+import seasonton.youthPolicy.domain.post.domain.entity.PostVoteOption;
+import seasonton.youthPolicy.domain.post.domain.entity.Posts;
+import seasonton.youthPolicy.domain.post.domain.repository.PostRepository;
+import seasonton.youthPolicy.domain.post.domain.repository.PostVoteOptionRepository;
+import seasonton.youthPolicy.domain.post.domain.repository.PostVoteRepository;
+import seasonton.youthPolicy.domain.post.dto.VoteRequestDTO;
+import seasonton.youthPolicy.global.service.S3Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 투표 (수백 명이 한꺼번에 투표 / 같은 사용자가 동시에 선택 변경)
+ * 끝난 뒤 옵션별 득표 수 == 옵션별 투표 기록 수 여야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PostService.class, RegionCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)     // 투표마다 별도 트랜잭션으로 커밋
+class PostVoteConcurrencyTest {
+
+    private static final int VOTERS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostVoteRepository postVoteRepository;
+
+    @Autowired
+    private PostVoteOptionRepository postVoteOptionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private VoteTallyBroadcaster voteTallyBroadcaster;
+
+    private Region region;
+    private List<User> voters;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        region = regionRepository.save(Region.builder().RegionName("지역-" + run).build());
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < VOTERS; i++) {
+            users.add(User.builder()
+                    .email("voter" + i + "-" + run + "@example.com")
+                    .password("password")
+                    .nickname("voter" + i)
+                    .build());
+        }
+        voters = userRepository.saveAll(users);
+    }
+
+    @Test
+    @DisplayName("복수 선택 투표에 수백 명이 동시에 투표하고 선택을 바꿔도 득표 수는 기록 수와 같다")
+    void concurrentMultipleChoiceVotesKeepCountsEqualToRecords() throws Exception {
+        PostVote vote = createVote(true, 3);
+        List<Long> options = optionIds(vote);
+
+        // 사용자마다 서로 다른 선택 두 번을 동시에 보냄 (첫 투표끼리 경합)
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < voters.size(); i++) {
+            Long userId = voters.get(i).getId();
+            List<Long> first = i % 2 == 0 ? List.of(options.get(0), options.get(1)) : List.of(options.get(2));
+            List<Long> second = i % 3 == 0 ? List.of(options.get(1)) : List.of(options.get(0), options.get(2));
+            requests.add(voteCall(userId, vote.getId(), first));
+            requests.add(voteCall(userId, vote.getId(), second));
+        }
+        runConcurrently(requests);
+
+        assertCountsMatchRecords(vote);
+    }
+
+    @Test
+    @DisplayName("단일 선택 투표에서 같은 사용자가 동시에 다른 옵션을 골라도 기록은 하나만 남는다")
+    void concurrentSingleChoiceVotesKeepOneSelectionPerUser() throws Exception {
+        PostVote vote = createVote(false, 2);
+        List<Long> options = optionIds(vote);
+
+        List<Callable<Void>> requests = new ArrayList<>();
+        for (User voter : voters) {
+            requests.add(voteCall(voter.getId(), vote.getId(), List.of(options.get(0))));
+            requests.add(voteCall(voter.getId(), vote.getId(), List.of(options.get(1))));
+        }
+        runConcurrently(requests);
+
+        Map<Long, Long> perUser = countRecordsBy("r.user.id", vote);
+        assertThat(perUser).hasSize(VOTERS);
+        assertThat(perUser.values()).containsOnly(1L);
+        assertCountsMatchRecords(vote);
+        assertThat(postVoteOptionRepository.findAllByVoteIdOrderByIdAsc(vote.getId()))
+                .extracting(PostVoteOption::getVoteCount)
+                .satisfies(counts -> assertThat(counts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(VOTERS));
+    }
+
+    private PostVote createVote(boolean multipleChoice, int optionCount) {
+        Posts post = postRepository.save(Posts.builder()
+                .title("투표 게시글")
+                .content("내용")
+                .writer(voters.get(0).getNickname())
+                .region(region)
+                .user(voters.get(0))
+                .build());
+
+        PostVote vote = PostVote.builder()
+                .question("어느 쪽인가요?")
+                .multipleChoice(multipleChoice)
+                .post(post)
+                .build();
+        for (int i = 0; i < optionCount; i++) {
+            vote.getOptions().add(PostVoteOption.builder().optionText("옵션 " + i).vote(vote).build());
+        }
+        return postVoteRepository.save(vote);
+    }
+
+    private List<Long> optionIds(PostVote vote) {
+        return postVoteOptionRepository.findAllByVoteIdOrderByIdAsc(vote.getId()).stream()
+                .map(PostVoteOption::getId)
+                .toList();
+    }
+
+    private Callable<Void> voteCall(Long userId, Long voteId, List<Long> optionIds) {
+        return () -> {
+            postService.vote(userId, new VoteRequestDTO.VoteRequest(voteId, optionIds));
+            return null;
+        };
+    }
+
+    // 모든 요청을 한꺼번에 출발시키고 하나라도 실패하면 예외
+    private void runConcurrently(List<Callable<Void>> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> request : requests) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 투표 기록 수 (group 기준별)
+    private Map<Long, Long> countRecordsBy(String group, PostVote vote) {
+        return entityManager.createQuery("SELECT " + group + ", COUNT(r) FROM PostVoteRecord r " +
+                        "WHERE r.vote.id = :voteId GROUP BY " + group, Object[].class)
+                .setParameter("voteId", vote.getId())
+                .getResultList().stream()
+                .collect(Collectors.toMap((Object[] row) -> (Long) row[0], (Object[] row) -> (Long) row[1]));
+    }
+
+    private void assertCountsMatchRecords(PostVote vote) {
+        Map<Long, Long> recorded = countRecordsBy("r.option.id", vote);
+
+        for (PostVoteOption option : postVoteOptionRepository.findAllByVoteIdOrderByIdAsc(vote.getId())) {
+            assertThat((long) option.getVoteCount())
+                    .as("option %d", option.getId())
+                    .isEqualTo(recorded.getOrDefault(option.getId(), 0L));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seasonton.youthPolicy.global.infra;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import seasonton.youthPolicy.domain.policy.converter.PolicyConverter;
+import seasonton.youthPolicy.support.Fixtures;
+import seasonton.youthPolicy.support.StubServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정책 목록 응답 스트리밍 파싱
+ * fixtures/youth-policy/list-page.json: 청년정책 API 목록 응답 형식, 40건, 항목마다 긴 설명/지원내용 텍스트 (약 270KB)
+ */
+class YouthPolicyClientTest {
+
+    private static final String LIST_PAGE = "youth-policy/list-page.json";
+
+    private static final StubServer upstream = StubServer.start();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private YouthPolicyClient client;
+
+    @BeforeEach
+    void setUp() {
+        upstream.reset();
+        upstream.respond(request -> StubServer.Response.json(Fixtures.read(LIST_PAGE)));
+        client = new YouthPolicyClient(WebClient.builder(), objectMapper, upstream.url(), "test-key",
+                Duration.ofSeconds(3), Duration.ofSeconds(10), 4, Duration.ofSeconds(30), 4,
+                Duration.ZERO, 10, 5, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    @DisplayName("필드 제한이 없으면 스트리밍 파싱 결과는 전체 트리의 paging / youthPolicyList 와 같다")
+    void parsesSameResultAsTree() throws IOException {
+        JsonNode tree = objectMapper.readTree(Fixtures.bytes(LIST_PAGE)).path("result");
+
+        JsonNode streamed = client.fetchPage(1, 40, null, null, null);
+
+        ObjectNode expected = objectMapper.createObjectNode();
+        expected.set("paging", tree.path("paging"));
+        expected.set("youthPolicyList", tree.path("youthPolicyList"));
+        assertThat(streamed).isEqualTo(expected);
+        assertThat(streamed.path("youthPolicyList")).hasSize(40);
+    }
+
+    @Test
+    @DisplayName("목록 필드만 요청하면 각 항목은 전체 트리 항목에서 해당 필드만 남긴 것과 같다")
+    void parsesOnlyRequestedFields() throws IOException {
+        JsonNode tree = objectMapper.readTree(Fixtures.bytes(LIST_PAGE)).path("result");
+
+        JsonNode streamed = client.fetchPage(1, 40, null, null, PolicyConverter.LIST_FIELDS);
+
+        assertThat(streamed.path("paging")).isEqualTo(tree.path("paging"));
+        assertThat(streamed.path("youthPolicyList")).isEqualTo(project(tree.path("youthPolicyList"), PolicyConverter.LIST_FIELDS));
+        assertThat(upstream.requests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("목록 필드만 읽는 스트리밍 파싱은 전체 트리 파싱보다 할당량이 훨씬 적다")
+    void streamingListParseAllocatesLessThanTree() throws IOException {
+        byte[] body = Fixtures.bytes(LIST_PAGE);
+        int warmup = 50;
+        int rounds = 200;
+
+        for (int i = 0; i < warmup; i++) {
+            objectMapper.readTree(body);
+            client.parseResult(new ByteArrayInputStream(body), PolicyConverter.LIST_FIELDS);
+        }
+
+        long treeBytes = allocatedBytes(() -> {
+            for (int i = 0; i < rounds; i++) objectMapper.readTree(body);
+        });
+        long streamedBytes = allocatedBytes(() -> {
+            for (int i = 0; i < rounds; i++) {
+                client.parseResult(new ByteArrayInputStream(body), PolicyConverter.LIST_FIELDS);
+            }
+        });
+
+        System.out.printf("[YouthPolicyClientTest] %d bytes/page - tree %d B/op, streaming(list fields) %d B/op%n",
+                body.length, treeBytes / rounds, streamedBytes / rounds);
+        assertThat(streamedBytes).isLessThan(treeBytes / 2);
+    }
+
+    // 트리 항목에서 지정한 필드만 남긴 배열
+    private ArrayNode project(JsonNode items, Set<String> fields) {
+        ArrayNode projected = objectMapper.createArrayNode();
+        for (JsonNode item : items) {
+            ObjectNode copy = projected.addObject();
+            for (var field : item.properties()) {
+                if (fields.contains(field.getKey())) copy.set(field.getKey(), field.getValue());
+            }
+        }
+        return projected;
+    }
+
+    // 현재 스레드가 작업 중에 할당한 바이트 수
+    private static long allocatedBytes(IoTask task) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,27 @@
+package seasonton.youthPolicy.support;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+// src/test/resources/fixtures 아래 응답 파일 읽기
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static byte[] bytes(String path) {
+        try (InputStream in = new ClassPathResource("fixtures/" + path).getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String read(String path) {
+        return new String(bytes(path), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,122 @@
+package seasonton.youthPolicy.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 외부 API(청년정책, Perplexity) 대신 쓰는 로컬 HTTP 스텁
+ * - 받은 요청을 순서대로 기록
+ * - 응답은 테스트가 요청별로 지정 (기본 404)
+ */
+public class StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile Function<Request, Response> handler = request -> Response.json(404, "{}");
+
+    private StubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubServer start() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            StubServer stub = new StubServer(server);
+            server.createContext("/", stub::handle);
+            server.setExecutor(Executors.newFixedThreadPool(8));
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void respond(Function<Request, Response> handler) {
+        this.handler = handler;
+    }
+
+    public List<Request> requests() {
+        return List.copyOf(requests);
+    }
+
+    public void reset() {
+        requests.clear();
+        handler = request -> Response.json(404, "{}");
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Request request = new Request(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                    parseQuery(exchange.getRequestURI().getRawQuery()), body);
+            requests.add(request);
+
+            Response response;
+            try {
+                response = handler.apply(request);
+            } catch (RuntimeException e) {
+                response = Response.json(500, "{\"error\":\"" + e.getMessage() + "\"}");
+            }
+
+            byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    public record Request(String method, String path, Map<String, String> query, String body) {
+    }
+
+    public record Response(int status, String body) {
+
+        public static Response json(String body) {
+            return new Response(200, body);
+        }
+
+        public static Response json(int status, String body) {
+            return new Response(status, body);
+        }
+    }
+}